@@ -0,0 +1,157 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.log;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/**
+ * Benchmark of built-in decors, through {@link Logger#format(String,
+ * Object...)}, including creation of the decor.
+ *
+ * @since 0.25
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DecorsBenchmark {
+
+    /**
+     * Decor key.
+     */
+    @Param({
+        "ms", "nano", "size", "text", "list",
+        "object", "exception", "dom", "file",
+    })
+    public String key;
+
+    /**
+     * Format with the decor.
+     */
+    private transient String format;
+
+    /**
+     * Argument of the decor.
+     */
+    private transient Object arg;
+
+    /**
+     * Prepare the format and the argument.
+     * @throws Exception If fails
+     */
+    @Setup
+    public void setUp() throws Exception {
+        this.format = String.format("value: %%[%s]s", this.key);
+        this.arg = DecorsBenchmark.argument(this.key);
+    }
+
+    /**
+     * Format it.
+     * @return Formatted text
+     */
+    @Benchmark
+    public String formatsDecor() {
+        return Logger.format(this.format, this.arg);
+    }
+
+    /**
+     * Make an argument for the decor.
+     * @param key Decor key
+     * @return The argument
+     * @throws Exception If fails
+     * @checkstyle CyclomaticComplexityCheck (50 lines)
+     */
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    private static Object argument(final String key) throws Exception {
+        final Object arg;
+        if ("ms".equals(key)) {
+            arg = 123_456L;
+        } else if ("nano".equals(key)) {
+            arg = 98_765_432L;
+        } else if ("size".equals(key)) {
+            arg = 5_000_000L;
+        } else if ("text".equals(key)) {
+            final StringBuilder text = new StringBuilder(0);
+            for (int idx = 0; idx < 50; ++idx) {
+                text.append("line ").append(idx).append('\n');
+            }
+            arg = text.toString();
+        } else if ("list".equals(key)) {
+            final Collection<String> list = new ArrayList<>(10);
+            for (int idx = 0; idx < 10; ++idx) {
+                list.add(String.format("item-%d", idx));
+            }
+            arg = list;
+        } else if ("object".equals(key)) {
+            arg = new DecorsBenchmark.Point(3, 4);
+        } else if ("exception".equals(key)) {
+            arg = new IllegalStateException(
+                "failure", new IOException("cause")
+            );
+        } else if ("dom".equals(key)) {
+            final Document doc = DocumentBuilderFactory.newInstance()
+                .newDocumentBuilder().newDocument();
+            final Element root = doc.createElement("root");
+            for (int idx = 0; idx < 10; ++idx) {
+                final Element item = doc.createElement("item");
+                item.setTextContent(Integer.toString(idx));
+                root.appendChild(item);
+            }
+            doc.appendChild(root);
+            arg = doc;
+        } else {
+            arg = "/tmp/jmh/some/file.txt";
+        }
+        return arg;
+    }
+
+    /**
+     * Object for the "object" decor.
+     * @since 0.25
+     */
+    private static final class Point {
+
+        /**
+         * Horizontal position.
+         */
+        @SuppressWarnings("unused")
+        private final transient int left;
+
+        /**
+         * Vertical position.
+         */
+        @SuppressWarnings("unused")
+        private final transient int top;
+
+        /**
+         * Ctor.
+         * @param horiz Horizontal position
+         * @param vert Vertical position
+         */
+        Point(final int horiz, final int vert) {
+            this.left = horiz;
+            this.top = vert;
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.log;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link Logger}.
+ *
+ * <p>The logger {@code jmh.disabled} is not configured, that's why it
+ * inherits {@code WARN} from the root logger and has {@code DEBUG}
+ * disabled.
+ *
+ * @since 0.25
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class LoggerBenchmark {
+
+    /**
+     * Logger with disabled {@code DEBUG}.
+     */
+    private static final String DISABLED = "jmh.disabled";
+
+    /**
+     * Some user name.
+     */
+    private final transient String user = "jeff";
+
+    /**
+     * Some duration.
+     */
+    private final transient long millis = 1234L;
+
+    /**
+     * Some size.
+     */
+    private final transient long size = 65_536L;
+
+    /**
+     * Format without decors.
+     * @return Formatted text
+     */
+    @Benchmark
+    public String formatsPlainArguments() {
+        return Logger.format(
+            "user %s logged in from %s, attempt #%d",
+            this.user, "10.0.0.1", 3
+        );
+    }
+
+    /**
+     * Format with decors.
+     * @return Formatted text
+     */
+    @Benchmark
+    public String formatsDecoratedArguments() {
+        return Logger.format(
+            "%s read %[size]s in %[ms]s",
+            this.user, this.size, this.millis
+        );
+    }
+
+    /**
+     * Format without arguments.
+     * @return Formatted text
+     */
+    @Benchmark
+    public String formatsWithoutArguments() {
+        return Logger.format("nothing to format here, 100%% sure%n");
+    }
+
+    /**
+     * Log at disabled level.
+     */
+    @Benchmark
+    public void skipsDisabledDebug() {
+        Logger.debug(
+            LoggerBenchmark.DISABLED, "user %s read %[size]s",
+            this.user, this.size
+        );
+    }
+
+    /**
+     * Check disabled level.
+     * @return Is it enabled?
+     */
+    @Benchmark
+    public boolean checksDisabledLevel() {
+        return Logger.isDebugEnabled(LoggerBenchmark.DISABLED);
+    }
+}
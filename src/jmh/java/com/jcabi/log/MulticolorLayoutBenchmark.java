@@ -0,0 +1,69 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.log;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.log4j.Level;
+import org.apache.log4j.LogManager;
+import org.apache.log4j.spi.LoggingEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link MulticolorLayout}.
+ *
+ * @since 0.25
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MulticolorLayoutBenchmark {
+
+    /**
+     * The layout.
+     */
+    private transient MulticolorLayout layout;
+
+    /**
+     * The event.
+     */
+    private transient LoggingEvent event;
+
+    /**
+     * Prepare the layout and the event.
+     */
+    @Setup
+    public void setUp() {
+        this.layout = new MulticolorLayout();
+        this.layout.setConversionPattern("[%color{%-5p}] %t %c: %m%n");
+        this.event = new LoggingEvent(
+            MulticolorLayoutBenchmark.class.getName(),
+            LogManager.getLogger(MulticolorLayoutBenchmark.class),
+            Level.INFO,
+            "user jeff logged in",
+            null
+        );
+    }
+
+    /**
+     * Format the event.
+     * @return Formatted text
+     */
+    @Benchmark
+    public String formatsEvent() {
+        return this.layout.format(this.event);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.log;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import org.apache.log4j.LogManager;
+import org.apache.log4j.varia.NullAppender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link VerboseProcess}, in lines of output per second.
+ *
+ * <p>Works only where {@code seq} is available.
+ *
+ * @since 0.25
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class VerboseProcessBenchmark {
+
+    /**
+     * Lines printed by the process.
+     */
+    private static final int LINES = 10_000;
+
+    /**
+     * Send the lines to nowhere, and silence the debug logging
+     * of the process itself.
+     */
+    @Setup
+    public void setUp() {
+        final org.apache.log4j.Logger log =
+            LogManager.getLogger(VerboseProcess.class);
+        log.setLevel(org.apache.log4j.Level.INFO);
+        log.setAdditivity(false);
+        log.addAppender(new NullAppender());
+    }
+
+    /**
+     * Read lines, which are not logged.
+     * @return Output of the process
+     */
+    @Benchmark
+    @OperationsPerInvocation(VerboseProcessBenchmark.LINES)
+    public String readsSilentLines() {
+        return VerboseProcessBenchmark.run(Level.FINEST);
+    }
+
+    /**
+     * Read lines, which are logged.
+     * @return Output of the process
+     */
+    @Benchmark
+    @OperationsPerInvocation(VerboseProcessBenchmark.LINES)
+    public String readsLoggedLines() {
+        return VerboseProcessBenchmark.run(Level.INFO);
+    }
+
+    /**
+     * Run the process.
+     * @param level Level of its output
+     * @return Output of the process
+     */
+    private static String run(final Level level) {
+        try (
+            VerboseProcess process = new VerboseProcess(
+                new ProcessBuilder(
+                    "seq", "1", Integer.toString(VerboseProcessBenchmark.LINES)
+                ),
+                level, Level.WARNING
+            )
+        ) {
+            return process.stdout();
+        }
+    }
+}
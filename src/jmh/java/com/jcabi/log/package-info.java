@@ -0,0 +1,14 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+
+/**
+ * JMH benchmarks.
+ *
+ * <p>They are compiled and executed only in the {@code jmh} Maven
+ * profile: {@code mvn -Pjmh verify -DskipTests}.
+ *
+ * @since 0.25
+ */
+package com.jcabi.log;
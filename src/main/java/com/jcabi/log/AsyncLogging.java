@@ -0,0 +1,461 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.log;
+
+import java.io.Closeable;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import org.slf4j.MDC;
+
+/**
+ * Asynchronous mode of {@link Logger}.
+ *
+ * <p>When started, all messages of {@link Logger} are not formatted
+ * and not sent to SLF4J in the thread that logs them. Instead, the level,
+ * the source, the format, the arguments, the time and the name of the
+ * thread are put into a preallocated lock-free ring ({@link LogRing}),
+ * and one or more background threads (made by {@link VerboseThreads})
+ * format them and send to SLF4J:
+ *
+ * <pre> try (AsyncLogging async = new AsyncLogging().start()) {
+ *   Logger.info(this, "Hello, %s!", name);
+ * }</pre>
+ *
+ * <p>Keep in mind that the arguments are formatted later, in another
+ * thread, so mutable arguments will be logged in the state they have at
+ * that moment. Also, the location of the call (line number, etc.) is not
+ * known to SLF4J anymore. The MDC of the thread that logs the message is
+ * copied with it and restored around the call to SLF4J, along with the
+ * original time and thread name, which are available for the layout
+ * under {@link #TIME} and {@link #THREAD} keys.
+ *
+ * <p>When the ring is full, the {@link AsyncLogging.Overflow} policy
+ * decides what to do with a new message. Dropped messages are counted,
+ * see {@link #dropped()}.
+ *
+ * <p>Only one instance may be started at a time. {@link #close()}
+ * switches {@link Logger} back to synchronous mode and sends to SLF4J
+ * all messages still waiting in the ring.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 0.25
+ */
+public final class AsyncLogging implements Closeable {
+
+    /**
+     * MDC key with the time of the message, in milliseconds.
+     */
+    public static final String TIME = "jcabi.time";
+
+    /**
+     * MDC key with the name of the thread, which logged the message.
+     */
+    public static final String THREAD = "jcabi.thread";
+
+    /**
+     * The instance started now, if any.
+     */
+    private static final AtomicReference<AsyncLogging> ACTIVE =
+        new AtomicReference<>();
+
+    /**
+     * Is the current thread a consumer?
+     */
+    private static final ThreadLocal<Boolean> INSIDE =
+        ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    /**
+     * Longest pause of a consumer before it sleeps, or of a blocked producer,
+     * in nanos.
+     */
+    private static final long PAUSE = TimeUnit.MILLISECONDS.toNanos(1L);
+
+    /**
+     * Longest sleep of a consumer, when the ring stays empty, in nanos;
+     * normally it is woken up earlier, by a producer.
+     */
+    private static final long SLEEP = TimeUnit.SECONDS.toNanos(1L);
+
+    /**
+     * The ring.
+     */
+    private final transient LogRing ring;
+
+    /**
+     * What to do when the ring is full.
+     */
+    private final transient AsyncLogging.Overflow overflow;
+
+    /**
+     * Number of consumers.
+     */
+    private final transient int consumers;
+
+    /**
+     * Consumer threads.
+     */
+    private final transient ExecutorService threads;
+
+    /**
+     * Total number of dropped messages.
+     */
+    private final transient LongAdder lost;
+
+    /**
+     * Total number of messages sent to SLF4J.
+     */
+    private final transient LongAdder sent;
+
+    /**
+     * Number of producers putting messages into the ring right now,
+     * through {@link #publish(Level, Object, String, Object...)}.
+     */
+    private final transient AtomicInteger producers;
+
+    /**
+     * Consumer threads, which are sleeping or about to.
+     */
+    private final transient Set<Thread> sleepers;
+
+    /**
+     * Are consumers running?
+     */
+    private transient volatile boolean running;
+
+    /**
+     * Is it closed for new messages?
+     */
+    private transient volatile boolean closed;
+
+    /**
+     * Ctor, with a ring of 8192 messages, one consumer, which
+     * blocks producers when the ring is full.
+     */
+    public AsyncLogging() {
+        this(8192, 1, AsyncLogging.Overflow.BLOCK);
+    }
+
+    /**
+     * Ctor.
+     * @param capacity How many messages may wait in the ring, it will be
+     *  rounded up to the nearest power of two
+     * @param total How many consumer threads to run
+     * @param policy What to do when the ring is full
+     */
+    public AsyncLogging(final int capacity, final int total,
+        final AsyncLogging.Overflow policy) {
+        this.ring = new LogRing(capacity);
+        this.overflow = policy;
+        this.consumers = total;
+        this.threads = Executors.newFixedThreadPool(
+            total,
+            new VerboseThreads("jcabi-async", true, Thread.NORM_PRIORITY)
+        );
+        this.lost = new LongAdder();
+        this.sent = new LongAdder();
+        this.producers = new AtomicInteger();
+        this.sleepers = ConcurrentHashMap.newKeySet();
+    }
+
+    /**
+     * Start consumers and switch {@link Logger} to asynchronous mode.
+     * @return This instance
+     */
+    public AsyncLogging start() {
+        this.consume();
+        if (!AsyncLogging.ACTIVE.compareAndSet(null, this)) {
+            this.close();
+            throw new IllegalStateException(
+                "Asynchronous logging is already started"
+            );
+        }
+        return this;
+    }
+
+    /**
+     * How many messages were dropped because the ring was full.
+     * @return Total number of dropped messages
+     */
+    public long dropped() {
+        return this.lost.sum();
+    }
+
+    /**
+     * How many messages were sent to SLF4J.
+     * @return Total number of messages
+     */
+    public long dispatched() {
+        return this.sent.sum();
+    }
+
+    /**
+     * How many messages are waiting in the ring now.
+     * @return Number of messages, approximately
+     */
+    public int backlog() {
+        return this.ring.size();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%d/%d in backlog, %d dispatched, %d dropped, %s",
+            this.backlog(), this.ring.capacity(), this.dispatched(),
+            this.dropped(), this.overflow
+        );
+    }
+
+    @Override
+    public void close() {
+        AsyncLogging.ACTIVE.compareAndSet(this, null);
+        this.closed = true;
+        while (this.producers.get() > 0) {
+            LockSupport.parkNanos(AsyncLogging.PAUSE);
+        }
+        this.running = false;
+        this.wake();
+        this.threads.shutdown();
+        try {
+            this.threads.awaitTermination(1L, TimeUnit.MINUTES);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+        final LogRing.Event event = new LogRing.Event();
+        while (this.ring.poll(event)) {
+            this.dispatch(event);
+        }
+    }
+
+    /**
+     * Put the message into the ring of the started instance, if any.
+     * @param level The level
+     * @param source The source of the logging operation
+     * @param msg The format
+     * @param args Arguments of the format
+     * @return TRUE if it was accepted or dropped, FALSE if it has to be
+     *  logged synchronously
+     */
+    static boolean offer(final Level level, final Object source,
+        final String msg, final Object... args) {
+        final AsyncLogging async = AsyncLogging.ACTIVE.get();
+        return async != null && async.publish(level, source, msg, args);
+    }
+
+    /**
+     * Put the message into the ring, unless it is closed.
+     *
+     * <p>A producer may find this instance active right before
+     * {@link #close()} deactivates it. That's why producers are
+     * counted while they are here, and {@link #close()} waits for all of
+     * them to leave before the last drain of the ring. Those, who come
+     * after the instance is closed, log synchronously.
+     *
+     * @param level The level
+     * @param source The source of the logging operation
+     * @param msg The format
+     * @param args Arguments of the format
+     * @return TRUE if it was accepted or dropped, FALSE if it has to be
+     *  logged synchronously
+     */
+    boolean publish(final Level level, final Object source,
+        final String msg, final Object... args) {
+        this.producers.incrementAndGet();
+        try {
+            return !this.closed && this.enqueue(level, source, msg, args);
+        } finally {
+            this.producers.decrementAndGet();
+        }
+    }
+
+    /**
+     * Start consumers, without switching {@link Logger}.
+     * @return This instance
+     */
+    AsyncLogging consume() {
+        if (this.running) {
+            throw new IllegalStateException(
+                "Asynchronous logging can't be started twice"
+            );
+        }
+        this.running = true;
+        for (int idx = 0; idx < this.consumers; ++idx) {
+            this.threads.execute(this::drain);
+        }
+        return this;
+    }
+
+    /**
+     * Put the message into the ring.
+     * @param level The level
+     * @param source The source of the logging operation
+     * @param msg The format
+     * @param args Arguments of the format
+     * @return TRUE if it was accepted or dropped, FALSE if it has to be
+     *  logged synchronously
+     */
+    boolean enqueue(final Level level, final Object source,
+        final String msg, final Object... args) {
+        final long time = System.currentTimeMillis();
+        boolean done = this.ring.offer(level, source, msg, args, time);
+        if (!done) {
+            if (this.overflow == AsyncLogging.Overflow.DROP_NEWEST
+                || this.overflow == AsyncLogging.Overflow.DROP_LOWEST
+                && level.intValue() < Level.WARNING.intValue()) {
+                this.lost.increment();
+                done = true;
+            } else {
+                done = this.await(level, source, msg, args, time);
+            }
+        }
+        if (!this.sleepers.isEmpty()) {
+            this.wake();
+        }
+        return done;
+    }
+
+    /**
+     * Wait until there is a free slot in the ring.
+     *
+     * <p>If the ring is closed meanwhile, or if the message is logged by
+     * a consumer (for example, by an appender), we give up, and the
+     * message is logged synchronously.
+     *
+     * @param level The level
+     * @param source The source of the logging operation
+     * @param msg The format
+     * @param args Arguments of the format
+     * @param time When it happened
+     * @return TRUE if accepted, FALSE if it has to be logged synchronously
+     * @checkstyle ParameterNumber (3 lines)
+     */
+    private boolean await(final Level level, final Object source,
+        final String msg, final Object[] args, final long time) {
+        boolean done = false;
+        long pause = 1L;
+        while (!done && this.running && !AsyncLogging.INSIDE.get()) {
+            LockSupport.parkNanos(pause);
+            pause = Math.min(pause << 1, AsyncLogging.PAUSE);
+            done = this.ring.offer(level, source, msg, args, time);
+        }
+        return done;
+    }
+
+    /**
+     * Take messages from the ring and send them to SLF4J, until closed.
+     *
+     * <p>When the ring is empty, the consumer parks for a while, doubling
+     * the pause up to {@link #PAUSE}. If it's still empty, the consumer
+     * goes to sleep, until a producer or {@link #close()} wakes it up.
+     * A consumer announces its sleep before it checks the ring for the
+     * last time, while a producer checks for sleepers after it puts
+     * a message into the ring, so that the message can't be missed.
+     */
+    private void drain() {
+        AsyncLogging.INSIDE.set(Boolean.TRUE);
+        final Thread self = Thread.currentThread();
+        final LogRing.Event event = new LogRing.Event();
+        long pause = 1L;
+        while (true) {
+            if (this.ring.poll(event)) {
+                this.dispatch(event);
+                pause = 1L;
+            } else if (!this.running) {
+                break;
+            } else if (pause < AsyncLogging.PAUSE) {
+                LockSupport.parkNanos(pause);
+                pause <<= 1;
+            } else {
+                this.sleepers.add(self);
+                if (this.ring.size() == 0 && this.running) {
+                    LockSupport.parkNanos(this, AsyncLogging.SLEEP);
+                }
+                this.sleepers.remove(self);
+            }
+        }
+    }
+
+    /**
+     * Wake up sleeping consumers.
+     */
+    private void wake() {
+        for (final Thread sleeper : this.sleepers) {
+            LockSupport.unpark(sleeper);
+        }
+    }
+
+    /**
+     * Format the message and send it to SLF4J.
+     *
+     * <p>Arguments of the message are counted only here, in the consumer,
+     * and if there are too many of them, a warning is logged instead.
+     * Other formatting errors are logged by {@link LazyMessage}.
+     *
+     * @param event The event
+     */
+    private void dispatch(final LogRing.Event event) {
+        final Map<String, String> before = MDC.getCopyOfContextMap();
+        AsyncLogging.context(event.context());
+        MDC.put(AsyncLogging.TIME, Long.toString(event.time()));
+        MDC.put(AsyncLogging.THREAD, event.thread());
+        try {
+            Logger.dispatch(
+                event.level(), event.source(),
+                event.format(), event.arguments()
+            );
+            this.sent.increment();
+        } catch (final IllegalArgumentException ex) {
+            Logger.dispatch(
+                Level.WARNING, this,
+                "Can't log \"%s\": %[exception]s", event.format(), ex
+            );
+        } finally {
+            AsyncLogging.context(before);
+            event.clear();
+        }
+    }
+
+    /**
+     * Replace the MDC of the current thread.
+     * @param context New content of the MDC, or NULL to make it empty
+     */
+    private static void context(final Map<String, String> context) {
+        if (context == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(context);
+        }
+    }
+
+    /**
+     * What to do with a new message when the ring is full.
+     * @since 0.25
+     */
+    public enum Overflow {
+        /**
+         * Wait until there is a free slot.
+         */
+        BLOCK,
+        /**
+         * Drop messages with levels below {@code WARN}, wait for
+         * a free slot with the others.
+         */
+        DROP_LOWEST,
+        /**
+         * Drop the message.
+         */
+        DROP_NEWEST
+    }
+}
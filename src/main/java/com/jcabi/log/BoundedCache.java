@@ -0,0 +1,188 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.log;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded concurrent cache with "second chance" (CLOCK) eviction.
+ *
+ * <p>A hit is a map lookup plus a write of one flag on the entry, without
+ * any locking. A miss builds the value, stores it and, when the capacity is
+ * exceeded, walks the insertion queue: entries touched since the previous
+ * walk get one more round, the first untouched one is evicted. This is a
+ * cheap approximation of LRU, which keeps hot keys and lets one-off keys
+ * (like dynamically built format strings) go away.
+ *
+ * <p>The same value may be built more than once if several threads miss
+ * the same key at the same moment; only one of them stays in the cache.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @param <K> Type of keys
+ * @param <V> Type of values
+ * @since 0.25
+ */
+final class BoundedCache<K, V> {
+
+    /**
+     * Maximum number of entries.
+     */
+    private final transient int max;
+
+    /**
+     * Entries.
+     */
+    private final transient ConcurrentMap<K, BoundedCache.Entry<V>> map;
+
+    /**
+     * Keys in the order of their insertion (the "clock").
+     */
+    private final transient Queue<K> clock;
+
+    /**
+     * Total number of hits.
+     */
+    private final transient LongAdder hit;
+
+    /**
+     * Total number of misses.
+     */
+    private final transient LongAdder miss;
+
+    /**
+     * Ctor.
+     * @param size Maximum number of entries to keep
+     */
+    BoundedCache(final int size) {
+        this.max = size;
+        this.map = new ConcurrentHashMap<>(0);
+        this.clock = new ConcurrentLinkedQueue<>();
+        this.hit = new LongAdder();
+        this.miss = new LongAdder();
+    }
+
+    /**
+     * Get the value by key, building it if it's absent.
+     * @param key The key
+     * @param build Function that builds the value from the key
+     * @return The value
+     */
+    V get(final K key, final Function<? super K, ? extends V> build) {
+        final BoundedCache.Entry<V> found = this.map.get(key);
+        final V value;
+        if (found == null) {
+            this.miss.increment();
+            final BoundedCache.Entry<V> entry =
+                new BoundedCache.Entry<>(build.apply(key));
+            final BoundedCache.Entry<V> before =
+                this.map.putIfAbsent(key, entry);
+            if (before == null) {
+                this.clock.add(key);
+                this.evict();
+                value = entry.value;
+            } else {
+                value = before.value;
+            }
+        } else {
+            this.hit.increment();
+            if (!found.touched) {
+                found.touched = true;
+            }
+            value = found.value;
+        }
+        return value;
+    }
+
+    /**
+     * How many times the value was found in the cache.
+     * @return Total number of hits
+     */
+    long hits() {
+        return this.hit.sum();
+    }
+
+    /**
+     * How many times the value was not found in the cache.
+     * @return Total number of misses
+     */
+    long misses() {
+        return this.miss.sum();
+    }
+
+    /**
+     * How many entries are in the cache now.
+     * @return Number of entries
+     */
+    int size() {
+        return this.map.size();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "%d/%d entries, %d hits, %d misses",
+            this.size(), this.max, this.hits(), this.misses()
+        );
+    }
+
+    /**
+     * Evict entries until the size gets back to the limit.
+     *
+     * <p>Every entry in the queue can be given only one second chance per
+     * walk, that's why the loop can't run longer than two full rounds.
+     */
+    private void evict() {
+        int rounds = this.max * 2 + 2;
+        while (this.map.size() > this.max && rounds > 0) {
+            --rounds;
+            final K key = this.clock.poll();
+            if (key == null) {
+                break;
+            }
+            final BoundedCache.Entry<V> entry = this.map.get(key);
+            if (entry == null) {
+                continue;
+            }
+            if (entry.touched) {
+                entry.touched = false;
+                this.clock.add(key);
+            } else {
+                this.map.remove(key, entry);
+            }
+        }
+    }
+
+    /**
+     * Cache entry.
+     * @param <V> Type of value
+     * @since 0.25
+     */
+    private static final class Entry<V> {
+
+        /**
+         * The value.
+         */
+        private final transient V value;
+
+        /**
+         * Was it touched since the last walk of the clock?
+         */
+        private volatile boolean touched;
+
+        /**
+         * Ctor.
+         * @param val The value
+         */
+        Entry(final V val) {
+            this.value = val;
+        }
+    }
+}
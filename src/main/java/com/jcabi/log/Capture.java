@@ -0,0 +1,245 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.log;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Captured output of a process stream, with a limit of memory.
+ *
+ * <p>Bytes are kept in memory until there are more of them than the
+ * limit. Then all of them, and everything that comes later, are written
+ * into a temporary file, while only the last bytes, no more than the
+ * limit, stay in memory, in a ring. So, the heap used doesn't depend on
+ * how much the process prints. The text of the capture ({@link #text()})
+ * is made of the bytes in memory, while {@link #stream()} gives all of
+ * them, from the file. {@link #close()} deletes the file, otherwise it's
+ * deleted when the JVM exits.
+ *
+ * <p>Once {@link #freeze()} or {@link #close()} is called, bytes written
+ * are ignored, so that the capture doesn't change any more.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 0.25
+ */
+final class Capture extends OutputStream {
+
+    /**
+     * Longest array in memory, if there is no limit.
+     */
+    private static final int LONGEST = Integer.MAX_VALUE - 8;
+
+    /**
+     * Maximum number of bytes in memory.
+     */
+    private final transient int limit;
+
+    /**
+     * Bytes in memory, a ring when there are more of them than the limit.
+     */
+    private transient byte[] ring;
+
+    /**
+     * How many bytes were written.
+     */
+    private transient long size;
+
+    /**
+     * The file with all bytes, or NULL if they are all in memory.
+     */
+    private transient Path file;
+
+    /**
+     * Stream into the file, or NULL if there is no file.
+     */
+    private transient OutputStream spill;
+
+    /**
+     * Are bytes written ignored?
+     */
+    private transient boolean frozen;
+
+    /**
+     * Ctor.
+     * @param max How many bytes to keep in memory, zero or less for all
+     */
+    Capture(final int max) {
+        super();
+        if (max > 0) {
+            this.limit = max;
+        } else {
+            this.limit = Capture.LONGEST;
+        }
+        this.ring = new byte[Math.min(this.limit, 256)];
+    }
+
+    @Override
+    public void write(final int data) throws IOException {
+        this.write(new byte[] {(byte) data}, 0, 1);
+    }
+
+    @Override
+    public synchronized void write(final byte[] bytes, final int off,
+        final int len) throws IOException {
+        if (!this.frozen) {
+            this.keep(bytes, off, len);
+        }
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        if (this.spill != null) {
+            this.spill.flush();
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        this.frozen = true;
+        if (this.spill != null) {
+            this.spill.close();
+            Files.deleteIfExists(this.file);
+        }
+    }
+
+    /**
+     * Ignore bytes written from now on.
+     * @throws IOException If fails to flush the file
+     */
+    synchronized void freeze() throws IOException {
+        this.frozen = true;
+        this.flush();
+    }
+
+    /**
+     * How many bytes were written.
+     * @return Total number of bytes
+     */
+    synchronized long size() {
+        return this.size;
+    }
+
+    /**
+     * Were some bytes pushed out of memory?
+     * @return TRUE if the text is not complete
+     */
+    synchronized boolean truncated() {
+        return this.size > this.ring.length;
+    }
+
+    /**
+     * Text made of the bytes in memory, in UTF-8.
+     *
+     * <p>If the beginning was pushed out of memory, the text starts with
+     * the first complete character left.
+     *
+     * @return The text
+     */
+    synchronized String text() {
+        final byte[] tail = this.tail();
+        int start = 0;
+        if (this.truncated()) {
+            while (start < tail.length && (tail[start] & 0xC0) == 0x80) {
+                ++start;
+            }
+        }
+        return new String(
+            tail, start, tail.length - start, StandardCharsets.UTF_8
+        );
+    }
+
+    /**
+     * All bytes written, from the file, if they are there, or from memory.
+     * @return Stream of bytes
+     * @throws IOException If fails to open the file
+     */
+    synchronized InputStream stream() throws IOException {
+        final InputStream stream;
+        if (this.spill == null) {
+            stream = new ByteArrayInputStream(this.tail());
+        } else {
+            this.spill.flush();
+            stream = Files.newInputStream(this.file);
+        }
+        return stream;
+    }
+
+    /**
+     * Keep bytes in memory and in the file, if there is one.
+     * @param bytes The bytes
+     * @param off Where they start
+     * @param len How many of them
+     * @throws IOException If fails to write the file
+     */
+    private void keep(final byte[] bytes, final int off, final int len)
+        throws IOException {
+        if (this.spill == null && this.size + len > this.limit) {
+            this.file = Files.createTempFile("jcabi-process-", ".txt");
+            this.file.toFile().deleteOnExit();
+            this.spill = new BufferedOutputStream(
+                Files.newOutputStream(this.file)
+            );
+            this.spill.write(this.ring, 0, (int) this.size);
+        }
+        if (this.spill != null) {
+            this.spill.write(bytes, off, len);
+        }
+        if (this.size + len > this.ring.length
+            && this.ring.length < this.limit) {
+            this.ring = Arrays.copyOf(
+                this.ring,
+                (int) Math.min(
+                    this.limit,
+                    Math.max(this.size + len, this.ring.length * 2L)
+                )
+            );
+        }
+        int from = off;
+        int left = len;
+        if (left > this.ring.length) {
+            from += left - this.ring.length;
+            this.size += left - this.ring.length;
+            left = this.ring.length;
+        }
+        while (left > 0) {
+            final int pos = (int) (this.size % this.ring.length);
+            final int chunk = Math.min(left, this.ring.length - pos);
+            System.arraycopy(bytes, from, this.ring, pos, chunk);
+            from += chunk;
+            left -= chunk;
+            this.size += chunk;
+        }
+    }
+
+    /**
+     * The bytes in memory, in the order they were written.
+     * @return Bytes
+     */
+    private byte[] tail() {
+        final byte[] tail;
+        if (this.size <= this.ring.length) {
+            tail = Arrays.copyOf(this.ring, (int) this.size);
+        } else {
+            tail = new byte[this.ring.length];
+            final int pos = (int) (this.size % this.ring.length);
+            System.arraycopy(
+                this.ring, pos, tail, 0, this.ring.length - pos
+            );
+            System.arraycopy(
+                this.ring, 0, tail, this.ring.length - pos, pos
+            );
+        }
+        return tail;
+    }
+}
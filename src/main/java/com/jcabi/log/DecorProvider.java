@@ -0,0 +1,53 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.log;
+
+import java.util.Formattable;
+
+/**
+ * Provider of a custom decor, found through {@link java.util.ServiceLoader}.
+ *
+ * <p>Implement it, list the name of your class in
+ * {@code META-INF/services/com.jcabi.log.DecorProvider}, and the decor
+ * will be available by its short key, exactly like built-in ones:
+ *
+ * <pre> public final class HexDecors implements DecorProvider {
+ *   &#64;Override
+ *   public String key() {
+ *     return "hex";
+ *   }
+ *   &#64;Override
+ *   public Formattable decor(final Object arg) {
+ *     return (fmt, flags, width, precision) -&gt;
+ *       fmt.format("%x", arg);
+ *   }
+ * }
+ * Logger.info(this, "Hash: %[hex]s", 255);</pre>
+ *
+ * <p>Providers are found once, when decors are used for the first time.
+ * Built-in decors can't be replaced: a provider with the key of a built-in
+ * decor is ignored, as well as a provider with the key of another provider
+ * found earlier.
+ *
+ * <p>Implementations must be thread-safe.
+ *
+ * @since 0.25
+ */
+public interface DecorProvider {
+
+    /**
+     * The key of the decor, as it's used in formats, like {@code "hex"}
+     * in {@code "%[hex]s"}.
+     * @return The key
+     */
+    String key();
+
+    /**
+     * Make a decor.
+     * @param arg The argument to decorate, may be {@code NULL}
+     * @return The decor
+     */
+    Formattable decor(Object arg);
+}
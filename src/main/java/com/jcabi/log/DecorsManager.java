@@ -4,37 +4,45 @@
  */
 package com.jcabi.log;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
 import java.util.Formattable;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
 
 /**
  * Manager of all decors.
+ *
+ * <p>Built-in decors are created by factories, which call their
+ * constructors directly. Decors of {@link DecorProvider}s, found through
+ * {@link ServiceLoader}, are indexed once, together with built-in ones.
+ * Custom decors, referred to by class names, are resolved once:
+ * the constructor becomes a {@link MethodHandle}, and both found and
+ * missing classes are cached.
+ *
  * @since 0.1
  */
 final class DecorsManager {
 
     /**
-     * Storage of all found decors.
+     * Factories of built-in decors and decors of providers.
      */
-    private static final ConcurrentMap<String, Class<? extends Formattable>> DECORS =
-        new ConcurrentHashMap<>(0);
-
-    static {
-        DecorsManager.DECORS.put("file", FileDecor.class);
-        DecorsManager.DECORS.put("dom", DomDecor.class);
-        DecorsManager.DECORS.put("exception", ExceptionDecor.class);
-        DecorsManager.DECORS.put("list", ListDecor.class);
-        DecorsManager.DECORS.put("ms", MsDecor.class);
-        DecorsManager.DECORS.put("nano", NanoDecor.class);
-        DecorsManager.DECORS.put("object", ObjectDecor.class);
-        DecorsManager.DECORS.put("size", SizeDecor.class);
-        DecorsManager.DECORS.put("secret", SecretDecor.class);
-        DecorsManager.DECORS.put("text", TextDecor.class);
-        DecorsManager.DECORS.put("type", TypeDecor.class);
-    }
+    private static final Map<String, DecorsManager.Factory> DECORS =
+        DecorsManager.index(DecorsManager.builtin());
+
+    /**
+     * Factories of custom decors, by class names, including those
+     * that failed to resolve.
+     */
+    private static final BoundedCache<String, DecorsManager.Factory> CUSTOM =
+        new BoundedCache<>(256);
 
     /**
      * Private ctor.
@@ -52,59 +60,171 @@ final class DecorsManager {
      */
     static Formattable decor(final String key, final Object arg)
         throws DecorException {
-        final Class<? extends Formattable> type = DecorsManager.find(key);
-        final Formattable decor;
-        try {
-            decor = (Formattable) DecorsManager.ctor(type).newInstance(arg);
-        } catch (final InstantiationException ex) {
-            throw DecorException.create(
-                ex,
-                "Can't instantiate %s(%s)",
-                type.getName(),
-                arg.getClass().getName()
-            );
-        } catch (final IllegalAccessException ex) {
-            throw DecorException.create(
-                ex,
-                "Can't access %s(%s)",
-                type.getName(),
-                arg.getClass().getName()
-            );
-        } catch (final InvocationTargetException ex) {
-            throw DecorException.create(
-                ex,
-                "Can't invoke %s(%s)",
-                type.getName(),
-                arg.getClass().getName()
-            );
-        }
-        return decor;
+        return DecorsManager.factory(key).create(arg);
     }
 
     /**
-     * Find decor.
+     * Find the factory of decors.
+     *
+     * <p>The method never fails: if the decor can't be found, the factory
+     * will throw {@link DecorException} every time it's asked for a decor.
+     *
      * @param key Key for the formatter to be used to fmt the arguments
-     * @return The type of decor found
-     * @throws DecorException If some problem
+     * @return The factory
      */
-    @SuppressWarnings("unchecked")
-    private static Class<? extends Formattable> find(final String key)
-        throws DecorException {
-        final Class<? extends Formattable> type;
-        if (DecorsManager.DECORS.containsKey(key)) {
-            type = DecorsManager.DECORS.get(key);
-        } else {
+    static DecorsManager.Factory factory(final String key) {
+        DecorsManager.Factory factory = DecorsManager.DECORS.get(key);
+        if (factory == null) {
+            factory = DecorsManager.CUSTOM.get(key, DecorsManager::resolve);
+        }
+        return factory;
+    }
+
+    /**
+     * Add decors of providers to built-in ones.
+     *
+     * <p>Nothing here may log with decors in the format, since the class
+     * is not initialized yet.
+     *
+     * @param builtin Factories of built-in decors
+     * @return Factories by keys
+     */
+    private static Map<String, DecorsManager.Factory> index(
+        final Map<String, DecorsManager.Factory> builtin) {
+        final Map<String, DecorsManager.Factory> map = new HashMap<>(builtin);
+        final Iterator<DecorProvider> providers = ServiceLoader.load(
+            DecorProvider.class, DecorsManager.class.getClassLoader()
+        ).iterator();
+        while (true) {
+            final DecorProvider provider;
             try {
-                type = (Class<Formattable>) Class.forName(key);
-            } catch (final ClassNotFoundException ex) {
-                throw DecorException.create(
+                if (!providers.hasNext()) {
+                    break;
+                }
+                provider = providers.next();
+            } catch (final ServiceConfigurationError ex) {
+                Logger.warn(
+                    DecorsManager.class,
+                    "Decor provider ignored: %s", ex.getMessage()
+                );
+                continue;
+            }
+            final String key = provider.key();
+            if (map.containsKey(key)) {
+                Logger.warn(
+                    DecorsManager.class,
+                    "Decor '%s' of %s ignored, the key is already taken",
+                    key, provider.getClass().getName()
+                );
+            } else {
+                map.put(
+                    key,
+                    DecorsManager.direct(
+                        provider.getClass(), Object.class, provider::decor
+                    )
+                );
+            }
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * Make factories of built-in decors.
+     * @return Factories by keys
+     */
+    private static Map<String, DecorsManager.Factory> builtin() {
+        final Map<String, DecorsManager.Factory> map = new HashMap<>(16);
+        map.put(
+            "file",
+            DecorsManager.direct(FileDecor.class, Object.class, FileDecor::new)
+        );
+        map.put(
+            "dom",
+            DecorsManager.direct(DomDecor.class, Object.class, DomDecor::new)
+        );
+        map.put(
+            "exception",
+            DecorsManager.direct(
+                ExceptionDecor.class, Throwable.class, ExceptionDecor::new
+            )
+        );
+        map.put(
+            "list",
+            DecorsManager.direct(ListDecor.class, Object.class, ListDecor::new)
+        );
+        map.put(
+            "ms",
+            DecorsManager.direct(MsDecor.class, Long.class, MsDecor::new)
+        );
+        map.put(
+            "nano",
+            DecorsManager.direct(NanoDecor.class, Long.class, NanoDecor::new)
+        );
+        map.put(
+            "object",
+            DecorsManager.direct(
+                ObjectDecor.class, Object.class, ObjectDecor::new
+            )
+        );
+        map.put(
+            "size",
+            DecorsManager.direct(SizeDecor.class, Long.class, SizeDecor::new)
+        );
+        map.put(
+            "secret",
+            DecorsManager.direct(
+                SecretDecor.class, Object.class, SecretDecor::new
+            )
+        );
+        map.put(
+            "text",
+            DecorsManager.direct(TextDecor.class, Object.class, TextDecor::new)
+        );
+        map.put(
+            "type",
+            DecorsManager.direct(TypeDecor.class, Object.class, TypeDecor::new)
+        );
+        return map;
+    }
+
+    /**
+     * Resolve a custom decor by the name of its class.
+     * @param key The name of the class
+     * @return The factory
+     */
+    @SuppressWarnings("unchecked")
+    private static DecorsManager.Factory resolve(final String key) {
+        DecorsManager.Factory factory;
+        try {
+            final Class<?> type = Class.forName(key);
+            final Constructor<?> ctor = DecorsManager.ctor(type);
+            final Class<?> param = MethodType.methodType(
+                ctor.getParameterTypes()[0]
+            ).wrap().returnType();
+            final MethodHandle handle = MethodHandles.lookup()
+                .unreflectConstructor(ctor)
+                .asType(MethodType.methodType(Formattable.class, param));
+            factory = DecorsManager.direct(
+                type,
+                (Class<Object>) param,
+                arg -> (Formattable) handle.invoke(arg)
+            );
+        } catch (final ClassNotFoundException ex) {
+            factory = DecorsManager.failed(
+                DecorException.create(
                     ex,
                     "Decor '%s' not found and class can't be instantiated",
                     key
-                );
-            }
+                )
+            );
+        } catch (final IllegalAccessException ex) {
+            factory = DecorsManager.failed(
+                DecorException.create(ex, "Can't access %s", key)
+            );
+        } catch (final DecorException ex) {
+            factory = DecorsManager.failed(ex);
         }
-        return type;
+        return factory;
     }
 
     /**
@@ -113,8 +233,15 @@ final class DecorsManager {
      * @return The ctor
      * @throws DecorException If some problem
      */
-    private static Constructor<?> ctor(final Class<? extends Formattable> type)
+    private static Constructor<?> ctor(final Class<?> type)
         throws DecorException {
+        if (!Formattable.class.isAssignableFrom(type)
+            || Modifier.isAbstract(type.getModifiers())) {
+            throw DecorException.create(
+                "Can't instantiate %s, it's not a Formattable class",
+                type.getName()
+            );
+        }
         final Constructor<?>[] ctors = type.getDeclaredConstructors();
         if (ctors.length != 1) {
             throw DecorException.create(
@@ -132,4 +259,106 @@ final class DecorsManager {
         }
         return ctor;
     }
+
+    /**
+     * Make a factory, which calls the constructor directly.
+     *
+     * <p>An argument of a wrong type is rejected with
+     * {@link IllegalArgumentException}. Any exception thrown by the
+     * constructor is wrapped into {@link DecorException}.
+     *
+     * @param type Type of decor or its provider
+     * @param param Type of the argument
+     * @param ctor The constructor
+     * @param <T> Type of the argument
+     * @return The factory
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    private static <T> DecorsManager.Factory direct(
+        final Class<?> type, final Class<T> param,
+        final DecorsManager.Ctor<T> ctor) {
+        return arg -> {
+            if (arg != null && !param.isInstance(arg)) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "%s required by %s, while %s provided",
+                        param.getName(),
+                        type.getName(),
+                        arg.getClass().getName()
+                    )
+                );
+            }
+            try {
+                return ctor.make(param.cast(arg));
+                // @checkstyle IllegalCatch (1 line)
+            } catch (final Throwable ex) {
+                throw DecorException.create(
+                    ex,
+                    "Can't invoke %s(%s)",
+                    type.getName(),
+                    DecorsManager.typeOf(arg)
+                );
+            }
+        };
+    }
+
+    /**
+     * Make a factory, which always fails.
+     * @param error The exception to throw
+     * @return The factory
+     */
+    private static DecorsManager.Factory failed(final DecorException error) {
+        return arg -> {
+            throw error;
+        };
+    }
+
+    /**
+     * Name of the type of argument.
+     * @param arg The argument
+     * @return Name of its class
+     */
+    private static String typeOf(final Object arg) {
+        final String name;
+        if (arg == null) {
+            name = "null";
+        } else {
+            name = arg.getClass().getName();
+        }
+        return name;
+    }
+
+    /**
+     * Factory of decors.
+     * @since 0.25
+     */
+    @FunctionalInterface
+    interface Factory {
+
+        /**
+         * Make a decor.
+         * @param arg The argument
+         * @return The decor
+         * @throws DecorException If some problem
+         */
+        Formattable create(Object arg) throws DecorException;
+    }
+
+    /**
+     * Constructor of decors.
+     * @param <T> Type of the argument
+     * @since 0.25
+     */
+    @FunctionalInterface
+    private interface Ctor<T> {
+
+        /**
+         * Make a decor.
+         * @param arg The argument
+         * @return The decor
+         * @throws Throwable If some problem
+         * @checkstyle IllegalThrows (2 lines)
+         */
+        Formattable make(T arg) throws Throwable;
+    }
 }
@@ -4,11 +4,13 @@
  */
 package com.jcabi.log;
 
-import java.io.StringWriter;
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Formattable;
 import java.util.Formatter;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerConfigurationException;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
@@ -17,6 +19,13 @@ import org.w3c.dom.Node;
 
 /**
  * Decorates XML Document.
+ *
+ * <p>Every thread has its own {@link Transformer}, which is made once and
+ * then reused. The XML is written straight into the formatter. If the
+ * precision is set, for example {@code "%[dom].1000s"}, no more than that
+ * number of characters is printed, and the transformation stops as soon
+ * as the limit is reached.
+ *
  * @since 0.1
  */
 final class DomDecor implements Formattable {
@@ -27,6 +36,12 @@ final class DomDecor implements Formattable {
     private static final TransformerFactory FACTORY =
         TransformerFactory.newInstance();
 
+    /**
+     * Transformers of threads.
+     */
+    private static final ThreadLocal<Transformer> TRANSFORMERS =
+        new ThreadLocal<>();
+
     /**
      * The document.
      */
@@ -52,22 +67,141 @@ final class DomDecor implements Formattable {
     @Override
     public void formatTo(final Formatter formatter, final int flags,
         final int width, final int precision) {
-        final StringWriter writer = new StringWriter();
         if (this.node == null) {
-            writer.write("NULL");
+            formatter.format("%s", "NULL");
         } else {
+            int limit = Integer.MAX_VALUE;
+            if (precision >= 0) {
+                limit = precision;
+            }
+            final DomDecor.Output output = new DomDecor.Output(
+                formatter.out(), limit
+            );
             try {
-                final Transformer trans = DomDecor.FACTORY.newTransformer();
-                trans.setOutputProperty(OutputKeys.INDENT, "yes");
-                trans.setOutputProperty(OutputKeys.STANDALONE, "no");
-                trans.transform(
+                DomDecor.transformer().transform(
                     new DOMSource(this.node),
-                    new StreamResult(writer)
+                    new StreamResult(output)
                 );
             } catch (final TransformerException ex) {
-                throw new IllegalStateException(ex);
+                DomDecor.TRANSFORMERS.remove();
+                if (!output.full()) {
+                    throw new IllegalStateException(ex);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the transformer of the current thread.
+     * @return Transformer
+     * @throws TransformerConfigurationException If fails to make it
+     */
+    private static Transformer transformer()
+        throws TransformerConfigurationException {
+        Transformer trans = DomDecor.TRANSFORMERS.get();
+        if (trans == null) {
+            synchronized (DomDecor.FACTORY) {
+                trans = DomDecor.FACTORY.newTransformer();
+            }
+            trans.setOutputProperty(OutputKeys.INDENT, "yes");
+            trans.setOutputProperty(OutputKeys.STANDALONE, "no");
+            DomDecor.TRANSFORMERS.set(trans);
+        }
+        return trans;
+    }
+
+    /**
+     * Writer into an {@link Appendable}, with a limit.
+     * @since 0.25
+     */
+    private static final class Output extends Writer {
+
+        /**
+         * Where to write.
+         */
+        private final transient Appendable out;
+
+        /**
+         * How many chars may still be written.
+         */
+        private transient int left;
+
+        /**
+         * Was the limit reached?
+         */
+        private transient boolean reached;
+
+        /**
+         * Ctor.
+         * @param dest Where to write
+         * @param limit Maximum number of chars to write
+         */
+        Output(final Appendable dest, final int limit) {
+            super();
+            this.out = dest;
+            this.left = limit;
+        }
+
+        /**
+         * Was the limit reached and the output truncated?
+         * @return TRUE if truncated
+         */
+        boolean full() {
+            return this.reached;
+        }
+
+        @Override
+        public void write(final char[] cbuf, final int off, final int len)
+            throws IOException {
+            final int size = this.take(len);
+            if (this.out instanceof StringBuilder) {
+                ((StringBuilder) this.out).append(cbuf, off, size);
+            } else {
+                this.out.append(new String(cbuf, off, size));
+            }
+            this.check(size, len);
+        }
+
+        @Override
+        public void write(final String str, final int off, final int len)
+            throws IOException {
+            final int size = this.take(len);
+            this.out.append(str, off, off + size);
+            this.check(size, len);
+        }
+
+        @Override
+        public void flush() {
+            // nothing to flush
+        }
+
+        @Override
+        public void close() {
+            // nothing to close
+        }
+
+        /**
+         * Take as many chars as the limit allows.
+         * @param len How many chars are requested
+         * @return How many may be written
+         */
+        private int take(final int len) {
+            final int size = Math.min(len, this.left);
+            this.left -= size;
+            return size;
+        }
+
+        /**
+         * Stop the transformation if not everything was written.
+         * @param size How many chars were written
+         * @param len How many chars were requested
+         * @throws IOException If the limit is reached
+         */
+        private void check(final int size, final int len) throws IOException {
+            if (size < len) {
+                this.reached = true;
+                throw new IOException("The limit of output is reached");
             }
         }
-        formatter.format("%s", writer);
     }
 }
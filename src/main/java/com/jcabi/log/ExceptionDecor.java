@@ -4,11 +4,16 @@
  */
 package com.jcabi.log;
 
-import java.io.PrintWriter;
-import java.io.StringWriter;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Formattable;
 import java.util.FormattableFlags;
 import java.util.Formatter;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Decorates an exception.
@@ -24,37 +29,583 @@ import java.util.Formatter;
  * }
  * </pre>
  *
+ * <p>The stack trace is printed the same way
+ * {@link Throwable#printStackTrace()} does it, including causes,
+ * suppressed exceptions and "... N more" tails of frames in common with
+ * the enclosing trace, but straight into the formatter, without
+ * intermediate buffers. Besides that, frames repeated many times in a row
+ * (deep recursion) are printed once, with the number of repetitions.
+ *
+ * <p>The number of frames printed for every exception is limited by
+ * the precision, for example {@code "%[exception].10s"}, or by
+ * {@code com.jcabi.log.exception.frames} system property, if the precision
+ * is not set. By default, it's not limited.
+ *
+ * <p>Rendered frames are cached, by the type of exception and its frames,
+ * since the same exception is usually thrown from the same place many
+ * times. The size of the cache is set by
+ * {@code com.jcabi.log.exception.traces} system property (256 by default,
+ * zero disables the cache).
+ *
+ * <p>If {@code com.jcabi.log.exception.window} system property is set to
+ * a number of milliseconds, the stack trace of an exception is printed
+ * only once in that window. After that, exceptions of the same type with
+ * the same frames are printed without frames, only with the number of
+ * times they were seen in the current window.
+ *
  * @since 0.1
  */
 final class ExceptionDecor implements Formattable {
 
+    /**
+     * Maximum number of frames to print for every exception.
+     */
+    private static final int FRAMES = Integer.getInteger(
+        "com.jcabi.log.exception.frames", Integer.MAX_VALUE
+    );
+
+    /**
+     * Length of the window in milliseconds, when stack traces are not
+     * printed again, or zero.
+     */
+    private static final long WINDOW = Long.getLong(
+        "com.jcabi.log.exception.window", 0L
+    );
+
+    /**
+     * Rendered frames or {@code NULL} if they are not cached.
+     */
+    private static final BoundedCache<ExceptionDecor.Trace, String> TRACES =
+        ExceptionDecor.cache(
+            Integer.getInteger("com.jcabi.log.exception.traces", 256)
+        );
+
+    /**
+     * Windows of exceptions already printed.
+     */
+    private static final
+        BoundedCache<ExceptionDecor.Trace, ExceptionDecor.Window> WINDOWS =
+            new BoundedCache<>(256);
+
     /**
      * The exception.
      */
     private final transient Throwable throwable;
 
+    /**
+     * Length of the window in milliseconds or zero.
+     */
+    private final transient long window;
+
     /**
      * Public ctor.
      * @param trw The exception
      */
     ExceptionDecor(final Throwable trw) {
+        this(trw, ExceptionDecor.WINDOW);
+    }
+
+    /**
+     * Ctor.
+     * @param trw The exception
+     * @param msec Length of the window in milliseconds, when stack traces
+     *  are not printed again, or zero
+     */
+    ExceptionDecor(final Throwable trw, final long msec) {
         this.throwable = trw;
+        this.window = msec;
     }
 
     // @checkstyle ParameterNumber (4 lines)
     @Override
     public void formatTo(final Formatter formatter, final int flags,
         final int width, final int precision) {
-        final String text;
         if (this.throwable == null) {
-            text = "NULL";
+            formatter.format("%s", "NULL");
         } else if ((flags & FormattableFlags.ALTERNATE) == 0) {
-            final StringWriter writer = new StringWriter();
-            this.throwable.printStackTrace(new PrintWriter(writer));
-            text = writer.toString();
+            int frames = ExceptionDecor.FRAMES;
+            if (precision >= 0) {
+                frames = precision;
+            }
+            try {
+                new ExceptionDecor.Printer(
+                    formatter.out(), frames, this.window
+                ).print(this.throwable);
+            } catch (final IOException ex) {
+                throw new IllegalStateException(ex);
+            }
         } else {
-            text = this.throwable.getMessage();
+            formatter.format("%s", this.throwable.getMessage());
+        }
+    }
+
+    /**
+     * Make a cache of rendered frames.
+     * @param size Maximum number of entries, zero to disable caching
+     * @return The cache or {@code NULL}
+     */
+    private static BoundedCache<ExceptionDecor.Trace, String> cache(
+        final int size) {
+        BoundedCache<ExceptionDecor.Trace, String> cache = null;
+        if (size > 0) {
+            cache = new BoundedCache<>(size);
+        }
+        return cache;
+    }
+
+    /**
+     * Printer of a stack trace into an {@link Appendable}.
+     * @since 0.25
+     */
+    private static final class Printer {
+
+        /**
+         * Longest sequence of frames, which may be collapsed, if repeated.
+         */
+        private static final int PERIOD = 8;
+
+        /**
+         * How many times a sequence of frames must be repeated in a row
+         * to be collapsed.
+         */
+        private static final int REPEATS = 3;
+
+        /**
+         * Where to print.
+         */
+        private final transient Appendable out;
+
+        /**
+         * Maximum number of frames to print for every exception.
+         */
+        private final transient int max;
+
+        /**
+         * Length of the window in milliseconds or zero.
+         */
+        private final transient long window;
+
+        /**
+         * Exceptions already printed.
+         */
+        private final transient Set<Throwable> seen;
+
+        /**
+         * Ctor.
+         * @param dest Where to print
+         * @param frames Maximum number of frames for every exception
+         * @param msec Length of the window in milliseconds or zero
+         */
+        Printer(final Appendable dest, final int frames, final long msec) {
+            this.out = dest;
+            this.max = frames;
+            this.window = msec;
+            this.seen = Collections.newSetFromMap(new IdentityHashMap<>(4));
+        }
+
+        /**
+         * Print the exception, with its causes and suppressed ones.
+         * @param error The exception
+         * @throws IOException If fails
+         */
+        void print(final Throwable error) throws IOException {
+            final StackTraceElement[] trace = error.getStackTrace();
+            int times = 0;
+            if (this.window > 0L) {
+                times = ExceptionDecor.WINDOWS.get(
+                    new ExceptionDecor.Trace(
+                        error.getClass(), trace, trace.length, "", 0
+                    ),
+                    key -> new ExceptionDecor.Window()
+                ).hit(System.currentTimeMillis(), this.window);
+            }
+            if (times == 0) {
+                this.print(error, trace, new StackTraceElement[0], "", "");
+            } else {
+                this.out.append(error.toString())
+                    .append(System.lineSeparator())
+                    .append("\t... (the same stack trace ")
+                    .append(Integer.toString(times))
+                    .append(" time(s) in the last ")
+                    .append(Long.toString(this.window))
+                    .append(" ms)")
+                    .append(System.lineSeparator());
+            }
+        }
+
+        /**
+         * Print the exception, enclosed into another one.
+         * @param error The exception
+         * @param trace Stack trace of the exception
+         * @param enclosing Stack trace of the enclosing exception
+         * @param caption Caption, like {@code "Caused by: "}
+         * @param prefix Prefix of lines
+         * @throws IOException If fails
+         * @checkstyle ParameterNumber (4 lines)
+         */
+        private void print(final Throwable error,
+            final StackTraceElement[] trace,
+            final StackTraceElement[] enclosing, final String caption,
+            final String prefix) throws IOException {
+            if (this.seen.add(error)) {
+                int mine = trace.length - 1;
+                int theirs = enclosing.length - 1;
+                while (mine >= 0 && theirs >= 0
+                    && trace[mine].equals(enclosing[theirs])) {
+                    --mine;
+                    --theirs;
+                }
+                this.out.append(prefix).append(caption)
+                    .append(error.toString()).append(System.lineSeparator());
+                this.frames(error.getClass(), trace, mine + 1, prefix);
+                for (final Throwable sup : error.getSuppressed()) {
+                    this.print(
+                        sup, sup.getStackTrace(), trace,
+                        "Suppressed: ", prefix + '\t'
+                    );
+                }
+                final Throwable cause = error.getCause();
+                if (cause != null) {
+                    this.print(
+                        cause, cause.getStackTrace(), trace,
+                        "Caused by: ", prefix
+                    );
+                }
+            } else {
+                this.out.append(prefix).append(caption)
+                    .append("[CIRCULAR REFERENCE: ")
+                    .append(error.toString()).append(']')
+                    .append(System.lineSeparator());
+            }
+        }
+
+        /**
+         * Print frames, taking them from the cache, if possible.
+         * @param type Type of the exception
+         * @param trace All frames of the exception
+         * @param unique How many of them are not in common with the
+         *  enclosing exception
+         * @param prefix Prefix of lines
+         * @throws IOException If fails
+         * @checkstyle ParameterNumber (3 lines)
+         */
+        private void frames(final Class<?> type,
+            final StackTraceElement[] trace, final int unique,
+            final String prefix) throws IOException {
+            if (ExceptionDecor.TRACES == null) {
+                ExceptionDecor.Printer.frames(
+                    this.out, trace, unique, prefix, this.max
+                );
+            } else {
+                this.out.append(
+                    ExceptionDecor.TRACES.get(
+                        new ExceptionDecor.Trace(
+                            type, trace, unique, prefix, this.max
+                        ),
+                        ExceptionDecor.Printer::render
+                    )
+                );
+            }
+        }
+
+        /**
+         * Render frames into a string.
+         * @param key The frames
+         * @return Text
+         */
+        private static String render(final ExceptionDecor.Trace key) {
+            final StringBuilder text = new StringBuilder(
+                key.frames.length * 64
+            );
+            try {
+                ExceptionDecor.Printer.frames(
+                    text, key.frames, key.unique, key.prefix, key.max
+                );
+            } catch (final IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+            return text.toString();
+        }
+
+        /**
+         * Print frames.
+         * @param out Where to print
+         * @param trace All frames of the exception
+         * @param unique How many of them are not in common with the
+         *  enclosing exception
+         * @param prefix Prefix of lines
+         * @param max Maximum number of frames to print
+         * @throws IOException If fails
+         * @checkstyle ParameterNumber (3 lines)
+         */
+        private static void frames(final Appendable out,
+            final StackTraceElement[] trace, final int unique,
+            final String prefix, final int max) throws IOException {
+            int shown = 0;
+            int pos = 0;
+            while (pos < unique && shown < max) {
+                final int period = ExceptionDecor.Printer.period(
+                    trace, pos, unique
+                );
+                if (period == 0) {
+                    ExceptionDecor.Printer.frame(out, trace[pos], prefix);
+                    ++pos;
+                    ++shown;
+                } else {
+                    final int block = Math.min(period, max - shown);
+                    for (int idx = 0; idx < block; ++idx) {
+                        ExceptionDecor.Printer.frame(
+                            out, trace[pos + idx], prefix
+                        );
+                    }
+                    shown += block;
+                    if (block < period) {
+                        pos += block;
+                        break;
+                    }
+                    final int repeats = ExceptionDecor.Printer.repeats(
+                        trace, pos, unique, period
+                    );
+                    pos += period * repeats;
+                    out.append(prefix).append("\t... (")
+                        .append(Integer.toString(period))
+                        .append(" frame(s) repeated ")
+                        .append(Integer.toString(repeats - 1))
+                        .append(" more time(s))")
+                        .append(System.lineSeparator());
+                }
+            }
+            final int more = trace.length - pos;
+            if (more > 0) {
+                out.append(prefix).append("\t... ")
+                    .append(Integer.toString(more)).append(" more")
+                    .append(System.lineSeparator());
+            }
+        }
+
+        /**
+         * Print one frame.
+         * @param out Where to print
+         * @param frame The frame
+         * @param prefix Prefix of the line
+         * @throws IOException If fails
+         */
+        private static void frame(final Appendable out,
+            final StackTraceElement frame, final String prefix)
+            throws IOException {
+            out.append(prefix).append("\tat ")
+                .append(frame.toString()).append(System.lineSeparator());
+        }
+
+        /**
+         * Find the shortest sequence of frames, starting at the position,
+         * which is repeated enough times in a row to be collapsed.
+         * @param trace The frames
+         * @param pos Where the sequence starts
+         * @param end Where the frames end
+         * @return Length of the sequence or zero if nothing to collapse
+         */
+        private static int period(final StackTraceElement[] trace,
+            final int pos, final int end) {
+            int found = 0;
+            for (int len = 1; len <= ExceptionDecor.Printer.PERIOD; ++len) {
+                if (pos + len * ExceptionDecor.Printer.REPEATS > end) {
+                    break;
+                }
+                if (ExceptionDecor.Printer.repeats(trace, pos, end, len)
+                    >= ExceptionDecor.Printer.REPEATS) {
+                    found = len;
+                    break;
+                }
+            }
+            return found;
+        }
+
+        /**
+         * How many times in a row the sequence of frames is repeated,
+         * including the first one.
+         * @param trace The frames
+         * @param pos Where the sequence starts
+         * @param end Where the frames end
+         * @param len Length of the sequence
+         * @return How many times it's repeated
+         */
+        private static int repeats(final StackTraceElement[] trace,
+            final int pos, final int end, final int len) {
+            int times = 1;
+            int next = pos + len;
+            while (next + len <= end
+                && ExceptionDecor.Printer.same(trace, pos, next, len)) {
+                ++times;
+                next += len;
+            }
+            return times;
+        }
+
+        /**
+         * Are the two sequences of frames equal?
+         * @param trace The frames
+         * @param first Start of the first sequence
+         * @param second Start of the second sequence
+         * @param len Length of the sequences
+         * @return TRUE if they are equal
+         */
+        private static boolean same(final StackTraceElement[] trace,
+            final int first, final int second, final int len) {
+            boolean same = true;
+            for (int idx = 0; idx < len; ++idx) {
+                if (!trace[first + idx].equals(trace[second + idx])) {
+                    same = false;
+                    break;
+                }
+            }
+            return same;
+        }
+    }
+
+    /**
+     * Frames of an exception, as a key of the cache.
+     * @since 0.25
+     */
+    private static final class Trace {
+
+        /**
+         * How many top frames are hashed.
+         */
+        private static final int TOP = 4;
+
+        /**
+         * Type of the exception.
+         */
+        private final transient Class<?> type;
+
+        /**
+         * All frames of the exception.
+         */
+        private final transient StackTraceElement[] frames;
+
+        /**
+         * How many of them are not in common with the enclosing exception.
+         */
+        private final transient int unique;
+
+        /**
+         * Prefix of lines.
+         */
+        private final transient String prefix;
+
+        /**
+         * Maximum number of frames to print.
+         */
+        private final transient int max;
+
+        /**
+         * Hash code, of the type, the depth and a few top frames only.
+         */
+        private final transient int hash;
+
+        /**
+         * Ctor.
+         * @param cls Type of the exception
+         * @param trace All frames of the exception
+         * @param num How many of them are not in common with the
+         *  enclosing exception
+         * @param pfx Prefix of lines
+         * @param frms Maximum number of frames to print
+         * @checkstyle ParameterNumber (3 lines)
+         */
+        Trace(final Class<?> cls, final StackTraceElement[] trace,
+            final int num, final String pfx, final int frms) {
+            this.type = cls;
+            this.frames = trace;
+            this.unique = num;
+            this.prefix = pfx;
+            this.max = frms;
+            // @checkstyle ConstructorsCodeFreeCheck (1 line)
+            this.hash = ExceptionDecor.Trace.hash(cls, trace);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            boolean equal = this == obj;
+            if (!equal && obj instanceof ExceptionDecor.Trace) {
+                final ExceptionDecor.Trace other = (ExceptionDecor.Trace) obj;
+                equal = this.hash == other.hash
+                    && this.type.equals(other.type)
+                    && this.unique == other.unique
+                    && this.max == other.max
+                    && this.prefix.equals(other.prefix)
+                    && Arrays.equals(this.frames, other.frames);
+            }
+            return equal;
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+        /**
+         * Hash code of the type, the depth and the top frames, since
+         * traces of the same depth, which differ only at the bottom,
+         * are rare, while hashing all frames takes too long.
+         * @param cls Type of the exception
+         * @param trace All frames of the exception
+         * @return Hash code
+         */
+        private static int hash(final Class<?> cls,
+            final StackTraceElement[] trace) {
+            int code = cls.hashCode() * 31 + trace.length;
+            final int top = Math.min(trace.length, ExceptionDecor.Trace.TOP);
+            for (int idx = 0; idx < top; ++idx) {
+                code = code * 31 + trace[idx].hashCode();
+            }
+            return code;
+        }
+    }
+
+    /**
+     * Window, when the stack trace of an exception is not printed again.
+     * @since 0.25
+     */
+    private static final class Window {
+
+        /**
+         * When the window started, in milliseconds.
+         */
+        private final transient AtomicLong start;
+
+        /**
+         * How many times the exception was seen in the window, after
+         * it was printed.
+         */
+        private final transient AtomicInteger seen;
+
+        /**
+         * Ctor.
+         */
+        Window() {
+            this.start = new AtomicLong();
+            this.seen = new AtomicInteger();
+        }
+
+        /**
+         * Register one more exception.
+         * @param now Current time in milliseconds
+         * @param length Length of the window in milliseconds
+         * @return How many times it was seen in the current window, or
+         *  zero if a new window is started and the trace has to be printed
+         */
+        int hit(final long now, final long length) {
+            final long begin = this.start.get();
+            final int times;
+            if (now - begin >= length && this.start.compareAndSet(begin, now)) {
+                this.seen.set(0);
+                times = 0;
+            } else {
+                times = this.seen.incrementAndGet();
+            }
+            return times;
         }
-        formatter.format("%s", text);
     }
 }
@@ -4,7 +4,7 @@
  */
 package com.jcabi.log;
 
-import java.io.StringWriter;
+import java.io.File;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Formattable;
@@ -12,10 +12,33 @@ import java.util.Formatter;
 
 /**
  * Decorates File.
+ *
+ * <p>The path is printed relative to the working directory, which is
+ * resolved once, if it's inside of it. Otherwise, it's printed as an
+ * absolute path. {@link Path} and {@link File} are used as they are,
+ * anything else is converted to a string first.
+ *
+ * <p>Printed paths may be cached, if the same files are logged over and
+ * over again. The size of the cache is set by
+ * {@code com.jcabi.log.file.paths} system property (zero by default,
+ * which disables the cache).
+ *
  * @since 0.1
  */
 final class FileDecor implements Formattable {
 
+    /**
+     * The working directory.
+     */
+    private static final Path ROOT = Paths.get("").toAbsolutePath();
+
+    /**
+     * Printed paths, by arguments, or {@code NULL} if they are not cached.
+     */
+    private static final BoundedCache<Object, String> PATHS = FileDecor.cache(
+        Integer.getInteger("com.jcabi.log.file.paths", 0)
+    );
+
     /**
      * The path.
      */
@@ -33,27 +56,79 @@ final class FileDecor implements Formattable {
     @Override
     public void formatTo(final Formatter formatter, final int flags,
         final int width, final int precision) {
-        final StringWriter writer = new StringWriter();
+        final String text;
         if (this.path == null) {
-            writer.write("NULL");
+            text = "NULL";
+        } else if (FileDecor.PATHS == null) {
+            text = FileDecor.relative(this.path);
+        } else {
+            text = FileDecor.PATHS.get(
+                FileDecor.key(this.path), FileDecor::relative
+            );
+        }
+        if (formatter.out() instanceof StringBuilder) {
+            ((StringBuilder) formatter.out()).append(text);
         } else {
-            final Path self = Paths.get(this.path.toString()).toAbsolutePath();
-            final Path root = Paths.get("").toAbsolutePath();
-            Path rlt;
-            try {
-                rlt = root.relativize(self);
-            } catch (final IllegalArgumentException ex) {
-                rlt = self;
-            }
-            String rel = rlt.toString();
-            if (rel.startsWith("..")) {
-                rel = self.toString();
-            }
-            if (rel.isEmpty()) {
-                rel = "./";
-            }
-            writer.write(rel);
-        }
-        formatter.format("%s", writer);
+            formatter.format("%s", text);
+        }
+    }
+
+    /**
+     * Print the path relative to the working directory.
+     * @param file The path, file or anything else
+     * @return The path to print
+     */
+    private static String relative(final Object file) {
+        final Path self;
+        if (file instanceof Path) {
+            self = ((Path) file).toAbsolutePath();
+        } else if (file instanceof File) {
+            self = ((File) file).toPath().toAbsolutePath();
+        } else {
+            self = Paths.get(file.toString()).toAbsolutePath();
+        }
+        Path rlt;
+        try {
+            rlt = FileDecor.ROOT.relativize(self);
+        } catch (final IllegalArgumentException ex) {
+            rlt = self;
+        }
+        String rel = rlt.toString();
+        if (rel.startsWith("..")) {
+            rel = self.toString();
+        }
+        if (rel.isEmpty()) {
+            rel = "./";
+        }
+        return rel;
+    }
+
+    /**
+     * Make a key of the cache.
+     * @param file The path, file or anything else
+     * @return Itself, if it's immutable, or its string
+     */
+    private static Object key(final Object file) {
+        final Object key;
+        if (file instanceof Path || file instanceof File
+            || file instanceof String) {
+            key = file;
+        } else {
+            key = file.toString();
+        }
+        return key;
+    }
+
+    /**
+     * Make a cache of printed paths.
+     * @param size Maximum number of entries, zero to disable caching
+     * @return The cache or {@code NULL}
+     */
+    private static BoundedCache<Object, String> cache(final int size) {
+        BoundedCache<Object, String> cache = null;
+        if (size > 0) {
+            cache = new BoundedCache<>(size);
+        }
+        return cache;
     }
 }
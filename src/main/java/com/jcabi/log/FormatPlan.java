@@ -0,0 +1,467 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.log;
+
+import java.text.DecimalFormatSymbols;
+import java.util.ArrayList;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled formatting string.
+ *
+ * <p>The plan is built once per formatting string: it knows the format
+ * without decor keys, which is ready for {@link String#format(String,
+ * Object[])}, and the factory of the decor (if any) for every argument
+ * slot. It also
+ * splits the format into literal pieces and argument slots, so that
+ * {@link #render(Object...)} can print the message in one pass, without
+ * scanning the format again.
+ *
+ * <p>Specifiers {@code %s}, {@code %d}, {@code %x} (without flags, width
+ * and precision), {@code %n} and {@code %%} are printed directly into a
+ * {@link StringBuilder}, which is reused by the thread. Everything else
+ * goes through a {@link Formatter}, which is reused as well. Formats with
+ * explicit argument indexes or with specifiers we don't recognize at all
+ * are rendered by {@link String#format(String, Object...)}, as before.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 0.25
+ */
+final class FormatPlan {
+
+    /**
+     * Pattern used for matching format string arguments, date/time
+     * conversions ({@code %tY}, {@code %TH}, etc.) are matched together
+     * with their suffixes.
+     */
+    private static final Pattern PATTERN = Pattern.compile(
+        "%(\\d+\\$)?(\\[([A-Za-z\\-.0-9]+)])?[+\\-]?(?:\\d*(?:\\.\\d+)?)?(?:[tT][a-zA-Z]|[a-zA-Z%])"
+    );
+
+    /**
+     * Buffers of threads.
+     */
+    private static final ThreadLocal<FormatPlan.Canvas> CANVAS =
+        ThreadLocal.withInitial(FormatPlan.Canvas::new);
+
+    /**
+     * The formatting string, without decor keys.
+     */
+    private final transient String format;
+
+    /**
+     * Factories of decors of argument slots, {@code null} for plain slots.
+     */
+    private final transient DecorsManager.Factory[] decors;
+
+    /**
+     * Pieces to print, or {@code null} if the format can only be
+     * rendered by {@link String#format(String, Object...)}.
+     */
+    private final transient FormatPlan.Piece[] pieces;
+
+    /**
+     * Private ctor.
+     * @param fmt The formatting string, without decor keys
+     * @param keys Factories of decors of argument slots
+     * @param pcs Pieces to print or {@code null}
+     */
+    private FormatPlan(final String fmt, final DecorsManager.Factory[] keys,
+        final FormatPlan.Piece... pcs) {
+        this.format = fmt;
+        this.decors = keys;
+        this.pieces = pcs;
+    }
+
+    /**
+     * Compile the formatting string.
+     * @param fmt The formatting string
+     * @return The plan
+     */
+    @SuppressWarnings("PMD.CognitiveComplexity")
+    static FormatPlan compile(final String fmt) {
+        final List<DecorsManager.Factory> keys = new ArrayList<>(0);
+        final List<FormatPlan.Piece> pieces = new ArrayList<>(0);
+        final StringBuilder literal = new StringBuilder(fmt.length());
+        final StringBuffer buf = new StringBuffer(fmt.length());
+        final Matcher matcher = FormatPlan.PATTERN.matcher(fmt);
+        boolean simple = true;
+        int tail = 0;
+        while (matcher.find()) {
+            simple &= FormatPlan.plain(fmt, tail, matcher.start());
+            literal.append(fmt, tail, matcher.start());
+            tail = matcher.end();
+            final String group = matcher.group();
+            String spec = group;
+            if ("%n".equals(group)) {
+                literal.append(System.lineSeparator());
+            } else if ("%%".equals(group)) {
+                literal.append('%');
+            } else if (matcher.group(1) == null) {
+                DecorsManager.Factory decor = null;
+                if (matcher.group(3) != null) {
+                    spec = group.replace(matcher.group(2), "");
+                    decor = DecorsManager.factory(matcher.group(3));
+                }
+                FormatPlan.flush(literal, pieces);
+                pieces.add(new FormatPlan.Slot(keys.size(), decor, spec));
+                keys.add(decor);
+            } else {
+                simple = false;
+            }
+            matcher.appendReplacement(buf, Matcher.quoteReplacement(spec));
+        }
+        simple &= FormatPlan.plain(fmt, tail, fmt.length());
+        literal.append(fmt, tail, fmt.length());
+        FormatPlan.flush(literal, pieces);
+        matcher.appendTail(buf);
+        final FormatPlan.Piece[] printable;
+        if (simple) {
+            printable = pieces.toArray(new FormatPlan.Piece[0]);
+        } else {
+            printable = null;
+        }
+        return new FormatPlan(
+            buf.toString(), keys.toArray(new DecorsManager.Factory[0]),
+            printable
+        );
+    }
+
+    /**
+     * Is it rendered directly, without {@link String#format(String,
+     * Object...)}?
+     * @return TRUE if it is
+     */
+    boolean direct() {
+        return this.pieces != null;
+    }
+
+    /**
+     * Get the formatting string, without decor keys.
+     * @return The formatting text
+     */
+    String format() {
+        return this.format;
+    }
+
+    /**
+     * Get the arguments, wrapped into decors where the format requires.
+     * @param args The arguments
+     * @return The arguments to be used with {@link #format()}
+     */
+    Object[] arguments(final Object... args) {
+        this.validate(args);
+        final Object[] result = new Object[this.decors.length];
+        for (int pos = 0; pos < this.decors.length; ++pos) {
+            result[pos] = FormatPlan.decorate(this.decors[pos], args[pos]);
+        }
+        return result;
+    }
+
+    /**
+     * Render the message.
+     * @param args The arguments
+     * @return Formatted string
+     */
+    String render(final Object... args) {
+        final String result;
+        if (this.pieces == null) {
+            result = String.format(this.format, this.arguments(args));
+        } else {
+            this.validate(args);
+            FormatPlan.Canvas canvas = FormatPlan.CANVAS.get();
+            if (canvas.busy) {
+                canvas = new FormatPlan.Canvas();
+            }
+            canvas.busy = true;
+            try {
+                for (final FormatPlan.Piece piece : this.pieces) {
+                    piece.print(canvas, args);
+                }
+                result = canvas.text.toString();
+            } finally {
+                canvas.release();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Is there no specifier left in the part of the format, which
+     * the pattern didn't match?
+     * @param fmt The formatting string
+     * @param start Where the part starts
+     * @param end Where it ends
+     * @return TRUE if there is no {@code %} in it
+     */
+    private static boolean plain(final String fmt, final int start,
+        final int end) {
+        final int pos = fmt.indexOf('%', start);
+        return pos < 0 || pos >= end;
+    }
+
+    /**
+     * Make sure there are not too many arguments.
+     * @param args The arguments
+     */
+    void validate(final Object... args) {
+        if (this.decors.length < args.length) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "There are %d parameter(s) but only %d format argument(s) were provided.",
+                    args.length,
+                    this.decors.length
+                )
+            );
+        }
+    }
+
+    /**
+     * Wrap the argument into a decor.
+     * @param decor Factory of the decor or {@code null}
+     * @param arg The argument
+     * @return The decor, or the argument itself if there is no decor
+     */
+    private static Object decorate(final DecorsManager.Factory decor,
+        final Object arg) {
+        Object result;
+        if (decor == null) {
+            result = arg;
+        } else {
+            try {
+                result = decor.create(arg);
+            } catch (final DecorException ex) {
+                result = String.format("[%s]", ex.getMessage());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Move collected literal text into the list of pieces.
+     * @param literal Collected text
+     * @param pieces Pieces
+     */
+    private static void flush(final StringBuilder literal,
+        final List<FormatPlan.Piece> pieces) {
+        if (literal.length() > 0) {
+            pieces.add(new FormatPlan.Literal(literal.toString()));
+            literal.setLength(0);
+        }
+    }
+
+    /**
+     * Piece of a compiled format.
+     * @since 0.25
+     */
+    private interface Piece {
+
+        /**
+         * Print it.
+         * @param canvas Where to print
+         * @param args Arguments of the message
+         */
+        void print(FormatPlan.Canvas canvas, Object... args);
+    }
+
+    /**
+     * Literal text.
+     * @since 0.25
+     */
+    private static final class Literal implements FormatPlan.Piece {
+
+        /**
+         * The text.
+         */
+        private final transient String text;
+
+        /**
+         * Ctor.
+         * @param txt The text
+         */
+        Literal(final String txt) {
+            this.text = txt;
+        }
+
+        @Override
+        public void print(final FormatPlan.Canvas canvas,
+            final Object... args) {
+            canvas.text.append(this.text);
+        }
+    }
+
+    /**
+     * Argument slot.
+     * @since 0.25
+     */
+    private static final class Slot implements FormatPlan.Piece {
+
+        /**
+         * Position of the argument.
+         */
+        private final transient int pos;
+
+        /**
+         * Factory of the decor or {@code null}.
+         */
+        private final transient DecorsManager.Factory factory;
+
+        /**
+         * Format specifier, without decor key.
+         */
+        private final transient String spec;
+
+        /**
+         * Conversion, if it can be printed without a {@link Formatter},
+         * or zero otherwise.
+         */
+        private final transient char conversion;
+
+        /**
+         * Ctor.
+         * @param num Position of the argument
+         * @param decor Factory of the decor or {@code null}
+         * @param spc Format specifier, without decor key
+         */
+        Slot(final int num, final DecorsManager.Factory decor,
+            final String spc) {
+            this.pos = num;
+            this.factory = decor;
+            this.spec = spc;
+            this.conversion = FormatPlan.Slot.direct(spc);
+        }
+
+        @Override
+        public void print(final FormatPlan.Canvas canvas,
+            final Object... args) {
+            final Object arg = FormatPlan.decorate(
+                this.factory, args[this.pos]
+            );
+            if (this.conversion == 's') {
+                canvas.string(arg);
+            } else if (this.conversion == 'd' && canvas.integral(arg)) {
+                canvas.text.append(((Number) arg).longValue());
+            } else if (this.conversion == 'x' && arg instanceof Integer) {
+                canvas.text.append(Integer.toHexString((Integer) arg));
+            } else if (this.conversion == 'x' && arg instanceof Long) {
+                canvas.text.append(Long.toHexString((Long) arg));
+            } else {
+                canvas.formatter().format(this.spec, arg);
+            }
+        }
+
+        /**
+         * Which conversion can be printed without {@link Formatter}.
+         * @param spec Format specifier
+         * @return Conversion or zero if none
+         */
+        private static char direct(final String spec) {
+            char chr = 0;
+            if (spec.length() == 2 && "sdx".indexOf(spec.charAt(1)) >= 0) {
+                chr = spec.charAt(1);
+            }
+            return chr;
+        }
+    }
+
+    /**
+     * Buffer and formatter of a thread.
+     * @since 0.25
+     */
+    private static final class Canvas {
+
+        /**
+         * Buffers bigger than this are not kept between messages.
+         */
+        private static final int MAX = 1 << 16;
+
+        /**
+         * The text.
+         */
+        private final transient StringBuilder text;
+
+        /**
+         * Formatter, which prints into the text.
+         */
+        private transient Formatter fmt;
+
+        /**
+         * Locale of the formatter.
+         */
+        private transient Locale locale;
+
+        /**
+         * Locale uses ASCII digits?
+         */
+        private transient boolean ascii;
+
+        /**
+         * Is it being used now?
+         */
+        private transient boolean busy;
+
+        /**
+         * Ctor.
+         */
+        Canvas() {
+            this.text = new StringBuilder(256);
+        }
+
+        /**
+         * Get the formatter, for the current default locale.
+         * @return Formatter
+         */
+        Formatter formatter() {
+            final Locale current = Locale.getDefault(Locale.Category.FORMAT);
+            if (!current.equals(this.locale)) {
+                this.fmt = new Formatter(this.text, current);
+                this.locale = current;
+                this.ascii = DecimalFormatSymbols.getInstance(current)
+                    .getZeroDigit() == '0';
+            }
+            return this.fmt;
+        }
+
+        /**
+         * Print it as {@code %s} would do.
+         * @param arg The argument
+         */
+        void string(final Object arg) {
+            if (arg instanceof Formattable) {
+                ((Formattable) arg).formatTo(this.formatter(), 0, -1, -1);
+            } else {
+                this.text.append(arg);
+            }
+        }
+
+        /**
+         * Can it be printed as {@code %d} without a {@link Formatter}?
+         * @param arg The argument
+         * @return TRUE if it's an integral number and locale digits are ASCII
+         */
+        boolean integral(final Object arg) {
+            this.formatter();
+            return this.ascii && (arg instanceof Integer || arg instanceof Long
+                || arg instanceof Short || arg instanceof Byte);
+        }
+
+        /**
+         * Get ready for the next message.
+         */
+        void release() {
+            this.busy = false;
+            this.text.setLength(0);
+            if (this.text.capacity() > FormatPlan.Canvas.MAX) {
+                this.text.trimToSize();
+            }
+        }
+    }
+}
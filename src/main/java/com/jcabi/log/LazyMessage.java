@@ -0,0 +1,122 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.log;
+
+/**
+ * Message, which is formatted only when somebody needs its text.
+ *
+ * <p>{@link Logger} sends it to SLF4J as the only argument of
+ * {@link #FORMAT}, so that the formatting happens only when the binding
+ * calls {@link #toString()}. When exactly it happens depends on the
+ * binding: all of them skip it if the level of the logger is disabled,
+ * which saves the work in "forced" methods of {@link Logger}; Logback
+ * also skips it if a filter rejects the event and formats it only when
+ * an appender needs the text, while reload4j formats it as soon as the
+ * level check passes.
+ *
+ * <p>The rendered text is cached, so that appenders, which ask for it
+ * one after another, get it without formatting again. The cache is not
+ * a lock though: threads asking for the text at the same time may all
+ * render it, which is harmless, since they render the same text.
+ *
+ * <p>The number of arguments is validated right away, in the thread that
+ * logs, since it's cheap. Other formatting errors are only detected when
+ * the message is rendered, by the binding, which would hide them. That's
+ * why they are logged as warnings here, while the text of the message
+ * is the format itself.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 0.25
+ */
+final class LazyMessage {
+
+    /**
+     * SLF4J format with the message as its only argument.
+     */
+    static final String FORMAT = "{}";
+
+    /**
+     * The format.
+     */
+    private final transient String format;
+
+    /**
+     * Compiled format or {@code NULL} if there are no arguments.
+     */
+    private final transient FormatPlan plan;
+
+    /**
+     * Arguments.
+     */
+    private final transient Object[] args;
+
+    /**
+     * Rendered text or {@code NULL} if not rendered yet.
+     */
+    private transient volatile String text;
+
+    /**
+     * Private ctor.
+     * @param fmt The format
+     * @param compiled Compiled format or {@code NULL}
+     * @param arguments Arguments
+     */
+    private LazyMessage(final String fmt, final FormatPlan compiled,
+        final Object... arguments) {
+        this.format = fmt;
+        this.plan = compiled;
+        this.args = arguments;
+    }
+
+    /**
+     * Make a message.
+     * @param fmt The format
+     * @param args Arguments
+     * @return The message
+     */
+    static LazyMessage create(final String fmt, final Object... args) {
+        FormatPlan compiled = null;
+        if (args.length > 0) {
+            compiled = PreFormatter.plan(fmt);
+            compiled.validate(args);
+        }
+        return new LazyMessage(fmt, compiled, args);
+    }
+
+    @Override
+    public String toString() {
+        String txt = this.text;
+        if (txt == null) {
+            txt = this.render();
+            this.text = txt;
+        }
+        return txt;
+    }
+
+    /**
+     * Format the text, or log the failure and take the format as it is.
+     * @return The text
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private String render() {
+        String txt;
+        try {
+            if (this.plan == null) {
+                txt = Logger.format(this.format, this.args);
+            } else {
+                txt = this.plan.render(this.args);
+            }
+            // @checkstyle IllegalCatch (1 line)
+        } catch (final RuntimeException ex) {
+            Logger.warn(
+                LazyMessage.class, "Can't format \"%s\": %[exception]s",
+                this.format, ex
+            );
+            txt = this.format;
+        }
+        return txt;
+    }
+}
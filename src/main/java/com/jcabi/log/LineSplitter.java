@@ -0,0 +1,230 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.log;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Splitter of a process stream into lines, which are logged and saved.
+ *
+ * <p>Bytes are pushed into it in chunks of any size, as they come from
+ * the stream. Lines end with {@code \n}, {@code \r} or {@code \r\n}, as
+ * {@link java.io.BufferedReader#readLine()} sees them. Every line is
+ * written to the output as is, byte by byte, followed by the line
+ * separator of the platform, and logged as {@code ">> line"}.
+ *
+ * <p>If there is a listener, every line is also given to it, right after
+ * it's logged, in the thread, which pushes bytes. Until the listener
+ * returns, no more bytes are read from the stream. If the bytes are
+ * pushed by a {@link StreamPump}, that thread is shared by streams of
+ * many processes, and a slow listener delays all of them.
+ *
+ * <p>Only lines, which are logged or listened to, are copied and decoded
+ * from UTF-8: if the level is not enabled and there is no listener, bytes
+ * go straight to the output. The buffer of such a line grows when needed,
+ * but no more than {@link #MAX} bytes of it are kept in memory, a longer
+ * line is logged and listened to in pieces of that size.
+ *
+ * <p>The class is NOT thread-safe, only one thread at a time
+ * may push bytes into it.
+ *
+ * @since 0.25
+ */
+final class LineSplitter {
+
+    /**
+     * Maximum length of a line kept in memory, in bytes.
+     */
+    static final int MAX = 65_536;
+
+    /**
+     * Line separator.
+     */
+    private static final byte[] EOL = System.lineSeparator().getBytes(
+        StandardCharsets.UTF_8
+    );
+
+    /**
+     * Log level.
+     */
+    private final transient Level level;
+
+    /**
+     * Where to save lines.
+     */
+    private final transient OutputStream output;
+
+    /**
+     * Listener of lines, or NULL if there is none.
+     */
+    private final transient Consumer<String> listener;
+
+    /**
+     * Bytes of the current line, to be logged.
+     */
+    private transient byte[] line;
+
+    /**
+     * How many bytes of the current line there are, to be logged.
+     */
+    private transient int size;
+
+    /**
+     * Was the previous byte a carriage return?
+     */
+    private transient boolean carriage;
+
+    /**
+     * Is there a line started and not ended yet?
+     */
+    private transient boolean open;
+
+    /**
+     * Ctor.
+     * @param lvl Log level
+     * @param out Where to save lines
+     */
+    LineSplitter(final Level lvl, final OutputStream out) {
+        this(lvl, out, null);
+    }
+
+    /**
+     * Ctor.
+     * @param lvl Log level
+     * @param out Where to save lines
+     * @param lstnr Listener of lines, or NULL if there is none
+     */
+    LineSplitter(final Level lvl, final OutputStream out,
+        final Consumer<String> lstnr) {
+        this.level = lvl;
+        this.output = out;
+        this.listener = lstnr;
+        this.line = new byte[256];
+    }
+
+    /**
+     * Take the next chunk of bytes from the stream.
+     * @param bytes The bytes
+     * @param len How many of them to take
+     * @throws IOException If fails to save a line
+     */
+    void accept(final byte[] bytes, final int len) throws IOException {
+        final boolean logged = this.decoded();
+        int start = 0;
+        for (int idx = 0; idx < len; ++idx) {
+            final byte chr = bytes[idx];
+            if (chr == '\n' && this.carriage) {
+                this.carriage = false;
+                start = idx + 1;
+            } else if (chr == '\n' || chr == '\r') {
+                this.take(bytes, start, idx - start, logged);
+                this.end(logged);
+                this.carriage = chr == '\r';
+                start = idx + 1;
+            } else {
+                this.carriage = false;
+            }
+        }
+        this.take(bytes, start, len - start, logged);
+    }
+
+    /**
+     * The stream is over, log and save the last line, if any.
+     * @throws IOException If fails to save it
+     */
+    void finish() throws IOException {
+        if (this.open) {
+            this.end(this.decoded());
+        }
+        this.output.flush();
+    }
+
+    /**
+     * Save a piece of the current line, and keep it for logging, if needed.
+     * @param bytes The bytes
+     * @param off Where the piece starts
+     * @param len How long it is
+     * @param logged Is the line going to be logged or listened to?
+     * @throws IOException If fails to save it
+     */
+    private void take(final byte[] bytes, final int off, final int len,
+        final boolean logged) throws IOException {
+        if (len > 0) {
+            this.output.write(bytes, off, len);
+            this.open = true;
+            if (logged) {
+                int from = off;
+                int left = len;
+                while (left > 0) {
+                    if (this.size == LineSplitter.MAX) {
+                        this.log();
+                    }
+                    if (this.size == this.line.length) {
+                        this.line = Arrays.copyOf(this.line, this.size << 1);
+                    }
+                    final int chunk = Math.min(
+                        left, this.line.length - this.size
+                    );
+                    System.arraycopy(bytes, from, this.line, this.size, chunk);
+                    this.size += chunk;
+                    from += chunk;
+                    left -= chunk;
+                }
+            }
+        }
+    }
+
+    /**
+     * End the current line: save the line separator and log the line,
+     * if needed.
+     * @param logged Is the line going to be logged or listened to?
+     * @throws IOException If fails to save it
+     */
+    private void end(final boolean logged) throws IOException {
+        this.output.write(LineSplitter.EOL);
+        this.open = false;
+        if (logged) {
+            this.log();
+        }
+        this.size = 0;
+    }
+
+    /**
+     * Are lines going to be decoded, to be logged or listened to?
+     * @return TRUE if they are
+     */
+    private boolean decoded() {
+        return this.listener != null
+            || Logger.isEnabled(this.level, VerboseProcess.class);
+    }
+
+    /**
+     * Decode the line kept, log it and give it to the listener, if any.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void log() {
+        final String text = new String(
+            this.line, 0, this.size, StandardCharsets.UTF_8
+        );
+        this.size = 0;
+        Logger.log(this.level, VerboseProcess.class, ">> %s", text);
+        if (this.listener != null) {
+            try {
+                this.listener.accept(text);
+                // @checkstyle IllegalCatch (1 line)
+            } catch (final RuntimeException ex) {
+                Logger.warn(
+                    VerboseProcess.class,
+                    "Listener of lines failed: %[exception]s", ex
+                );
+            }
+        }
+    }
+}
@@ -4,21 +4,31 @@
  */
 package com.jcabi.log;
 
-import java.util.Arrays;
+import java.lang.reflect.Array;
 import java.util.Collection;
 import java.util.Formattable;
 import java.util.Formatter;
+import java.util.Iterator;
+import java.util.stream.BaseStream;
 
 /**
  * Format list.
+ *
+ * <p>Collections, other {@link Iterable}s, streams and arrays (including
+ * arrays of primitives) are accepted, and their elements are printed
+ * one by one, without copying. If the precision is set, for example
+ * {@code "%[list].10s"}, no more than that many elements are printed,
+ * followed by {@code "...(N more)"}, or just {@code "..."}, if it's not
+ * known how many elements are left. A stream can be printed only once.
+ *
  * @since 0.1
  */
 final class ListDecor implements Formattable {
 
     /**
-     * The list.
+     * The collection, iterable, stream or array.
      */
-    private final transient Collection<?> list;
+    private final transient Object list;
 
     /**
      * Public ctor.
@@ -27,13 +37,12 @@ final class ListDecor implements Formattable {
      */
     ListDecor(final Object obj) throws DecorException {
         // @checkstyle ConstructorsCodeFreeCheck (10 lines)
-        if (obj == null || obj instanceof Collection) {
-            this.list = Collection.class.cast(obj);
-        } else if (obj instanceof Object[]) {
-            this.list = Arrays.asList((Object[]) obj);
+        if (obj == null || obj instanceof Iterable
+            || obj instanceof BaseStream || obj.getClass().isArray()) {
+            this.list = obj;
         } else {
             throw DecorException.create(
-                "Collection or array required, while %s provided",
+                "Iterable, stream or array required, while %s provided",
                 obj.getClass().getName()
             );
         }
@@ -43,21 +52,175 @@ final class ListDecor implements Formattable {
     @Override
     public void formatTo(final Formatter formatter, final int flags,
         final int width, final int precision) {
-        final StringBuilder builder = new StringBuilder(16);
-        builder.append('[');
-        if (this.list == null) {
-            builder.append("NULL");
+        int limit = Integer.MAX_VALUE;
+        if (precision >= 0) {
+            limit = precision;
+        }
+        if (formatter.out() instanceof StringBuilder) {
+            new ListDecor.Printer(
+                formatter, (StringBuilder) formatter.out(), limit
+            ).print(this.list);
         } else {
-            boolean first = true;
-            for (final Object item : this.list) {
-                if (!first) {
-                    builder.append(", ");
+            final StringBuilder text = new StringBuilder(64);
+            try (Formatter fmt = new Formatter(text, formatter.locale())) {
+                new ListDecor.Printer(fmt, text, limit).print(this.list);
+            }
+            formatter.format("%s", text);
+        }
+    }
+
+    /**
+     * Printer of elements.
+     * @since 0.25
+     */
+    private static final class Printer {
+
+        /**
+         * Formatter, which prints into the text.
+         */
+        private final transient Formatter formatter;
+
+        /**
+         * The text.
+         */
+        private final transient StringBuilder text;
+
+        /**
+         * Maximum number of elements to print.
+         */
+        private final transient int limit;
+
+        /**
+         * Ctor.
+         * @param fmt Formatter, which prints into the text
+         * @param txt The text
+         * @param max Maximum number of elements to print
+         */
+        Printer(final Formatter fmt, final StringBuilder txt, final int max) {
+            this.formatter = fmt;
+            this.text = txt;
+            this.limit = max;
+        }
+
+        /**
+         * Print the list.
+         * @param list The collection, iterable, stream or array
+         */
+        void print(final Object list) {
+            this.text.append('[');
+            if (list == null) {
+                this.text.append("NULL");
+            } else if (list.getClass().isArray()) {
+                this.array(list);
+            } else if (list instanceof Iterable) {
+                long total = -1L;
+                if (list instanceof Collection) {
+                    total = ((Collection<?>) list).size();
+                }
+                this.elements(((Iterable<?>) list).iterator(), total);
+            } else {
+                this.elements(((BaseStream<?, ?>) list).iterator(), -1L);
+            }
+            this.text.append(']');
+        }
+
+        /**
+         * Print elements of an iterator.
+         * @param items The elements
+         * @param total How many of them there are, or -1 if not known
+         */
+        private void elements(final Iterator<?> items, final long total) {
+            int idx = 0;
+            while (items.hasNext()) {
+                if (idx == this.limit) {
+                    this.rest(total - idx);
+                    break;
+                }
+                this.comma(idx);
+                final Object item = items.next();
+                this.text.append('"');
+                if (item instanceof Formattable) {
+                    ((Formattable) item).formatTo(this.formatter, 0, -1, -1);
+                } else {
+                    this.text.append(item);
+                }
+                this.text.append('"');
+                ++idx;
+            }
+        }
+
+        /**
+         * Print elements of an array.
+         * @param array The array
+         */
+        private void array(final Object array) {
+            final int total = Array.getLength(array);
+            for (int idx = 0; idx < total; ++idx) {
+                if (idx == this.limit) {
+                    this.rest(total - idx);
+                    break;
+                }
+                this.comma(idx);
+                this.text.append('"');
+                this.element(array, idx);
+                this.text.append('"');
+            }
+        }
+
+        /**
+         * Print an element of an array, without boxing primitives.
+         * @param array The array
+         * @param idx Position of the element
+         * @checkstyle CyclomaticComplexity (40 lines)
+         */
+        @SuppressWarnings("PMD.CognitiveComplexity")
+        private void element(final Object array, final int idx) {
+            if (array instanceof Object[]) {
+                final Object item = ((Object[]) array)[idx];
+                if (item instanceof Formattable) {
+                    ((Formattable) item).formatTo(this.formatter, 0, -1, -1);
+                } else {
+                    this.text.append(item);
                 }
-                builder.append(String.format("\"%s\"", item));
-                first = false;
+            } else if (array instanceof int[]) {
+                this.text.append(((int[]) array)[idx]);
+            } else if (array instanceof long[]) {
+                this.text.append(((long[]) array)[idx]);
+            } else if (array instanceof byte[]) {
+                this.text.append(((byte[]) array)[idx]);
+            } else if (array instanceof char[]) {
+                this.text.append(((char[]) array)[idx]);
+            } else if (array instanceof double[]) {
+                this.text.append(((double[]) array)[idx]);
+            } else if (array instanceof float[]) {
+                this.text.append(((float[]) array)[idx]);
+            } else if (array instanceof short[]) {
+                this.text.append(((short[]) array)[idx]);
+            } else {
+                this.text.append(((boolean[]) array)[idx]);
+            }
+        }
+
+        /**
+         * Print the mark of elements, which were not printed.
+         * @param more How many of them, negative if not known
+         */
+        private void rest(final long more) {
+            this.comma(this.limit);
+            this.text.append("...");
+            if (more >= 0L) {
+                this.text.append('(').append(more).append(" more)");
+            }
+        }
+
+        /**
+         * Print a comma before all elements but the first one.
+         * @param idx Position of the element
+         */
+        private void comma(final int idx) {
+            if (idx > 0) {
+                this.text.append(", ");
             }
         }
-        builder.append(']');
-        formatter.format("%s", builder);
     }
 }
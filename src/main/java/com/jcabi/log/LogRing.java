@@ -0,0 +1,326 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.log;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.logging.Level;
+import org.slf4j.MDC;
+
+/**
+ * Bounded lock-free ring of log events, for many producers and
+ * many consumers.
+ *
+ * <p>This is the array-based queue of Dmitry Vyukov: every slot has
+ * a sequence number, which tells producers and consumers whether the
+ * slot is free for writing or ready for reading at the current lap.
+ * Producers and consumers only compete for their own counter with one
+ * CAS, there are no locks and no allocations, since all events are
+ * created upfront and then reused.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 0.25
+ */
+final class LogRing {
+
+    /**
+     * Preallocated events.
+     */
+    private final transient LogRing.Event[] events;
+
+    /**
+     * Sequence numbers of slots.
+     */
+    private final transient AtomicLongArray sequences;
+
+    /**
+     * Mask for the position, to get the index of a slot.
+     */
+    private final transient int mask;
+
+    /**
+     * Position of the next event to read.
+     */
+    private final transient AtomicLong head;
+
+    /**
+     * Position of the next event to write.
+     */
+    private final transient AtomicLong tail;
+
+    /**
+     * Ctor.
+     * @param capacity Minimum number of events to keep, it will be rounded
+     *  up to the nearest power of two
+     */
+    LogRing(final int capacity) {
+        this(LogRing.events(capacity));
+    }
+
+    /**
+     * Ctor.
+     * @param slots Preallocated events
+     */
+    private LogRing(final LogRing.Event... slots) {
+        this.events = slots;
+        this.mask = slots.length - 1;
+        this.sequences = LogRing.sequences(slots.length);
+        this.head = new AtomicLong();
+        this.tail = new AtomicLong();
+    }
+
+    /**
+     * Put an event into the ring, if there is a free slot.
+     * @param level The level
+     * @param source The source of the logging operation
+     * @param msg The format
+     * @param args Arguments of the format
+     * @param time When it happened, in milliseconds
+     * @return TRUE if accepted, FALSE if the ring is full
+     * @checkstyle ParameterNumber (3 lines)
+     */
+    boolean offer(final Level level, final Object source, final String msg,
+        final Object[] args, final long time) {
+        boolean done = false;
+        long pos = this.tail.get();
+        while (true) {
+            final int idx = (int) pos & this.mask;
+            final long diff = this.sequences.get(idx) - pos;
+            if (diff == 0L) {
+                if (this.tail.compareAndSet(pos, pos + 1L)) {
+                    this.events[idx].fill(level, source, msg, args, time);
+                    this.sequences.lazySet(idx, pos + 1L);
+                    done = true;
+                    break;
+                }
+                pos = this.tail.get();
+            } else if (diff < 0L) {
+                break;
+            } else {
+                pos = this.tail.get();
+            }
+        }
+        return done;
+    }
+
+    /**
+     * Take the oldest event out of the ring, if there is one.
+     * @param target Where to copy the event
+     * @return TRUE if copied, FALSE if the ring is empty
+     */
+    boolean poll(final LogRing.Event target) {
+        boolean done = false;
+        long pos = this.head.get();
+        while (true) {
+            final int idx = (int) pos & this.mask;
+            final long diff = this.sequences.get(idx) - (pos + 1L);
+            if (diff == 0L) {
+                if (this.head.compareAndSet(pos, pos + 1L)) {
+                    this.events[idx].moveTo(target);
+                    this.sequences.lazySet(idx, pos + this.mask + 1L);
+                    done = true;
+                    break;
+                }
+                pos = this.head.get();
+            } else if (diff < 0L) {
+                break;
+            } else {
+                pos = this.head.get();
+            }
+        }
+        return done;
+    }
+
+    /**
+     * How many events are waiting in the ring now.
+     * @return Number of events, approximately
+     */
+    int size() {
+        return (int) Math.max(0L, this.tail.get() - this.head.get());
+    }
+
+    /**
+     * How many events the ring can keep.
+     * @return Number of slots
+     */
+    int capacity() {
+        return this.events.length;
+    }
+
+    /**
+     * Make events for the ring.
+     * @param capacity Minimum number of events
+     * @return Events, the number of them is a power of two
+     */
+    private static LogRing.Event[] events(final int capacity) {
+        final LogRing.Event[] slots = new LogRing.Event[
+            Integer.highestOneBit(Math.max(2, capacity) - 1) << 1
+        ];
+        for (int idx = 0; idx < slots.length; ++idx) {
+            slots[idx] = new LogRing.Event();
+        }
+        return slots;
+    }
+
+    /**
+     * Make initial sequence numbers of slots.
+     * @param size Number of slots
+     * @return Sequence numbers
+     */
+    private static AtomicLongArray sequences(final int size) {
+        final AtomicLongArray seqs = new AtomicLongArray(size);
+        for (int idx = 0; idx < size; ++idx) {
+            seqs.set(idx, idx);
+        }
+        return seqs;
+    }
+
+    /**
+     * Mutable log event, a slot in the ring.
+     * @since 0.25
+     */
+    static final class Event {
+
+        /**
+         * The level.
+         */
+        private transient Level level;
+
+        /**
+         * The source of the logging operation.
+         */
+        private transient Object source;
+
+        /**
+         * The format.
+         */
+        private transient String format;
+
+        /**
+         * Arguments of the format.
+         */
+        private transient Object[] args;
+
+        /**
+         * When it happened, in milliseconds.
+         */
+        private transient long time;
+
+        /**
+         * Name of the thread, which logged it.
+         */
+        private transient String thread;
+
+        /**
+         * MDC of the thread, which logged it, or NULL if it was empty.
+         */
+        private transient Map<String, String> context;
+
+        /**
+         * The level.
+         * @return Level
+         */
+        Level level() {
+            return this.level;
+        }
+
+        /**
+         * The source of the logging operation.
+         * @return Source
+         */
+        Object source() {
+            return this.source;
+        }
+
+        /**
+         * The format.
+         * @return Format
+         */
+        String format() {
+            return this.format;
+        }
+
+        /**
+         * Arguments of the format.
+         * @return Arguments
+         */
+        Object[] arguments() {
+            return this.args;
+        }
+
+        /**
+         * When it happened.
+         * @return Time in milliseconds
+         */
+        long time() {
+            return this.time;
+        }
+
+        /**
+         * Name of the thread, which logged it.
+         * @return Thread name
+         */
+        String thread() {
+            return this.thread;
+        }
+
+        /**
+         * MDC of the thread, which logged it.
+         * @return Copy of the MDC or NULL if it was empty
+         */
+        Map<String, String> context() {
+            return this.context;
+        }
+
+        /**
+         * Forget everything, so that arguments can be garbage collected.
+         */
+        void clear() {
+            this.level = null;
+            this.source = null;
+            this.format = null;
+            this.args = null;
+            this.thread = null;
+            this.context = null;
+        }
+
+        /**
+         * Fill it, in the thread that logs.
+         * @param lvl The level
+         * @param src The source of the logging operation
+         * @param msg The format
+         * @param arguments Arguments of the format
+         * @param millis When it happened
+         * @checkstyle ParameterNumber (3 lines)
+         */
+        private void fill(final Level lvl, final Object src, final String msg,
+            final Object[] arguments, final long millis) {
+            this.level = lvl;
+            this.source = src;
+            this.format = msg;
+            this.args = arguments;
+            this.time = millis;
+            this.thread = Thread.currentThread().getName();
+            this.context = MDC.getCopyOfContextMap();
+        }
+
+        /**
+         * Move the content to another event and clear this one.
+         * @param target The event to move to
+         */
+        private void moveTo(final LogRing.Event target) {
+            target.level = this.level;
+            target.source = this.source;
+            target.format = this.format;
+            target.args = this.args;
+            target.time = this.time;
+            target.thread = this.thread;
+            target.context = this.context;
+            this.clear();
+        }
+    }
+}
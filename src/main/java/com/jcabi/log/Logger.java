@@ -9,6 +9,9 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Level;
 import org.slf4j.LoggerFactory;
 
@@ -56,224 +59,2038 @@ import org.slf4j.LoggerFactory;
  * preparing of the arguments. By default, such a call is made inside every
  * method of {@link Logger} class.
  *
+ * <p>There are overloaded methods with up to four arguments and with one
+ * argument of a primitive type, for every level. They don't allocate
+ * arrays and don't box primitives when the level is disabled.
+ *
+ * <p>Messages may be formatted and sent to SLF4J in background threads,
+ * see {@link AsyncLogging}.
+ *
  * @since 0.1
  */
 @SuppressWarnings(
     {
         "PMD.TooManyMethods", "PMD.GodClass", "PMD.ProhibitPublicStaticMethods"
     }
-)
-public final class Logger {
+)
+public final class Logger {
+
+    /**
+     * Empty array of objects.
+     */
+    private static final Object[] EMPTY = {};
+
+    /**
+     * UTF-8.
+     */
+    private static final String UTF_8 = "UTF-8";
+
+    /**
+     * SLF4J loggers of classes.
+     */
+    private static final ClassValue<org.slf4j.Logger> TYPED =
+        new ClassValue<org.slf4j.Logger>() {
+            @Override
+            protected org.slf4j.Logger computeValue(final Class<?> type) {
+                return Logger.patched(LoggerFactory.getLogger(type));
+            }
+        };
+
+    /**
+     * SLF4J loggers by names.
+     */
+    private static final ConcurrentMap<String, org.slf4j.Logger> NAMED =
+        new ConcurrentHashMap<>(0);
+
+    /**
+     * Classes of SLF4J loggers with already patched FQCN.
+     */
+    private static final Set<Class<?>> PATCHED =
+        ConcurrentHashMap.newKeySet();
+
+    /**
+     * This is utility class.
+     */
+    private Logger() {
+        // intentionally empty
+    }
+
+    /**
+     * Format one string.
+     * @param fmt The format
+     * @param args List of arbitrary arguments
+     * @return Formatted string
+     */
+    public static String format(final String fmt, final Object... args) {
+        final String result;
+        if (args.length == 0) {
+            result = Logger.expandNoArgSpecifiers(fmt);
+        } else {
+            final FormatPlan plan = PreFormatter.plan(fmt);
+            result = plan.render(args);
+        }
+        return result;
+    }
+
+    /**
+     * Protocol one message, with {@code TRACE} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged
+     * @since 0.7.11
+     */
+    public static void trace(final Object source, final String msg) {
+        Logger.trace(source, msg, Logger.EMPTY);
+    }
+
+    /**
+     * Protocol one message, with {@code TRACE} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param args List of arguments
+     */
+    public static void trace(
+        final Object source,
+        final String msg, final Object... args
+    ) {
+        if (Logger.isTraceEnabled(source)) {
+            Logger.traceForced(source, msg, args);
+        }
+    }
+
+    /**
+     * Protocol one message, with {@code TRACE} priority level
+     * without internal checking whether {@code TRACE} level is enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param args List of arguments
+     */
+    public static void traceForced(
+        final Object source,
+        final String msg, final Object... args
+    ) {
+        if (!AsyncLogging.offer(Level.FINEST, source, msg, args)) {
+            Logger.logger(source).trace(
+                LazyMessage.FORMAT, LazyMessage.create(msg, args)
+            );
+        }
+    }
+
+    /**
+     * Protocol one message with one argument, with {@code TRACE} priority
+     * level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void trace(
+        final Object source, final String msg,
+        final Object first
+    ) {
+        if (Logger.isTraceEnabled(source)) {
+            Logger.traceForced(source, msg, first);
+        }
+    }
+
+    /**
+     * Protocol one message with one argument, with {@code TRACE} priority
+     * level without internal checking whether {@code TRACE} level is
+     * enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void traceForced(
+        final Object source, final String msg,
+        final Object first
+    ) {
+        Logger.traceForced(source, msg, new Object[] {first});
+    }
+
+    /**
+     * Protocol one message with two arguments, with {@code TRACE} priority
+     * level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The first argument
+     * @param second The second argument
+     * @since 0.25
+     */
+    public static void trace(
+        final Object source, final String msg,
+        final Object first, final Object second
+    ) {
+        if (Logger.isTraceEnabled(source)) {
+            Logger.traceForced(source, msg, first, second);
+        }
+    }
+
+    /**
+     * Protocol one message with two arguments, with {@code TRACE} priority
+     * level without internal checking whether {@code TRACE} level is
+     * enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The first argument
+     * @param second The second argument
+     * @since 0.25
+     */
+    public static void traceForced(
+        final Object source, final String msg,
+        final Object first, final Object second
+    ) {
+        Logger.traceForced(source, msg, new Object[] {first, second});
+    }
+
+    /**
+     * Protocol one message with three arguments, with {@code TRACE}
+     * priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The first argument
+     * @param second The second argument
+     * @param third The third argument
+     * @since 0.25
+     * @checkstyle ParameterNumber (4 lines)
+     */
+    public static void trace(
+        final Object source, final String msg,
+        final Object first, final Object second,
+        final Object third
+    ) {
+        if (Logger.isTraceEnabled(source)) {
+            Logger.traceForced(source, msg, first, second, third);
+        }
+    }
+
+    /**
+     * Protocol one message with three arguments, with {@code TRACE}
+     * priority level without internal checking whether {@code TRACE} level
+     * is enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The first argument
+     * @param second The second argument
+     * @param third The third argument
+     * @since 0.25
+     * @checkstyle ParameterNumber (4 lines)
+     */
+    public static void traceForced(
+        final Object source, final String msg,
+        final Object first, final Object second,
+        final Object third
+    ) {
+        Logger.traceForced(source, msg, new Object[] {first, second, third});
+    }
+
+    /**
+     * Protocol one message with four arguments, with {@code TRACE}
+     * priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The first argument
+     * @param second The second argument
+     * @param third The third argument
+     * @param fourth The fourth argument
+     * @since 0.25
+     * @checkstyle ParameterNumber (4 lines)
+     */
+    public static void trace(
+        final Object source, final String msg,
+        final Object first, final Object second,
+        final Object third, final Object fourth
+    ) {
+        if (Logger.isTraceEnabled(source)) {
+            Logger.traceForced(source, msg, first, second, third, fourth);
+        }
+    }
+
+    /**
+     * Protocol one message with four arguments, with {@code TRACE}
+     * priority level without internal checking whether {@code TRACE} level
+     * is enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The first argument
+     * @param second The second argument
+     * @param third The third argument
+     * @param fourth The fourth argument
+     * @since 0.25
+     * @checkstyle ParameterNumber (4 lines)
+     */
+    public static void traceForced(
+        final Object source, final String msg,
+        final Object first, final Object second,
+        final Object third, final Object fourth
+    ) {
+        Logger.traceForced(
+            source, msg, new Object[] {first, second, third, fourth}
+        );
+    }
+
+    /**
+     * Protocol one message with one {@code long} argument, with
+     * {@code TRACE} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void trace(
+        final Object source, final String msg,
+        final long first
+    ) {
+        if (Logger.isTraceEnabled(source)) {
+            Logger.traceForced(source, msg, first);
+        }
+    }
+
+    /**
+     * Protocol one message with one {@code long} argument, with
+     * {@code TRACE} priority level without internal checking whether
+     * {@code TRACE} level is enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void traceForced(
+        final Object source, final String msg,
+        final long first
+    ) {
+        Logger.traceForced(source, msg, new Object[] {first});
+    }
+
+    /**
+     * Protocol one message with one {@code int} argument, with
+     * {@code TRACE} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void trace(
+        final Object source, final String msg,
+        final int first
+    ) {
+        if (Logger.isTraceEnabled(source)) {
+            Logger.traceForced(source, msg, first);
+        }
+    }
+
+    /**
+     * Protocol one message with one {@code int} argument, with
+     * {@code TRACE} priority level without internal checking whether
+     * {@code TRACE} level is enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void traceForced(
+        final Object source, final String msg,
+        final int first
+    ) {
+        Logger.traceForced(source, msg, new Object[] {first});
+    }
+
+    /**
+     * Protocol one message with one {@code double} argument, with
+     * {@code TRACE} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void trace(
+        final Object source, final String msg,
+        final double first
+    ) {
+        if (Logger.isTraceEnabled(source)) {
+            Logger.traceForced(source, msg, first);
+        }
+    }
+
+    /**
+     * Protocol one message with one {@code double} argument, with
+     * {@code TRACE} priority level without internal checking whether
+     * {@code TRACE} level is enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void traceForced(
+        final Object source, final String msg,
+        final double first
+    ) {
+        Logger.traceForced(source, msg, new Object[] {first});
+    }
+
+    /**
+     * Protocol one message with one {@code char} argument, with
+     * {@code TRACE} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void trace(
+        final Object source, final String msg,
+        final char first
+    ) {
+        if (Logger.isTraceEnabled(source)) {
+            Logger.traceForced(source, msg, first);
+        }
+    }
+
+    /**
+     * Protocol one message with one {@code byte} argument, with
+     * {@code TRACE} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void trace(
+        final Object source, final String msg,
+        final byte first
+    ) {
+        if (Logger.isTraceEnabled(source)) {
+            Logger.traceForced(source, msg, first);
+        }
+    }
+
+    /**
+     * Protocol one message with one {@code short} argument, with
+     * {@code TRACE} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void trace(
+        final Object source, final String msg,
+        final short first
+    ) {
+        if (Logger.isTraceEnabled(source)) {
+            Logger.traceForced(source, msg, first);
+        }
+    }
+
+    /**
+     * Protocol one message with one {@code char} argument, with
+     * {@code TRACE} priority level without internal checking whether
+     * {@code TRACE} level is enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void traceForced(
+        final Object source, final String msg,
+        final char first
+    ) {
+        Logger.traceForced(source, msg, new Object[] {first});
+    }
+
+    /**
+     * Protocol one message with one {@code byte} argument, with
+     * {@code TRACE} priority level without internal checking whether
+     * {@code TRACE} level is enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void traceForced(
+        final Object source, final String msg,
+        final byte first
+    ) {
+        Logger.traceForced(source, msg, new Object[] {first});
+    }
+
+    /**
+     * Protocol one message with one {@code short} argument, with
+     * {@code TRACE} priority level without internal checking whether
+     * {@code TRACE} level is enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void traceForced(
+        final Object source, final String msg,
+        final short first
+    ) {
+        Logger.traceForced(source, msg, new Object[] {first});
+    }
+
+    /**
+     * Protocol one message with one {@code float} argument, with
+     * {@code TRACE} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void trace(
+        final Object source, final String msg,
+        final float first
+    ) {
+        if (Logger.isTraceEnabled(source)) {
+            Logger.traceForced(source, msg, first);
+        }
+    }
+
+    /**
+     * Protocol one message with one {@code float} argument, with
+     * {@code TRACE} priority level without internal checking whether
+     * {@code TRACE} level is enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void traceForced(
+        final Object source, final String msg,
+        final float first
+    ) {
+        Logger.traceForced(source, msg, new Object[] {first});
+    }
+
+    /**
+     * Protocol one message, with {@code DEBUG} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @since 0.7.11
+     */
+    public static void debug(final Object source, final String msg) {
+        Logger.debug(source, msg, Logger.EMPTY);
+    }
+
+    /**
+     * Protocol one message, with {@code DEBUG} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param args List of arguments
+     */
+    public static void debug(
+        final Object source,
+        final String msg, final Object... args
+    ) {
+        if (Logger.isDebugEnabled(source)) {
+            Logger.debugForced(source, msg, args);
+        }
+    }
+
+    /**
+     * Protocol one message, with {@code DEBUG} priority level
+     * without internal checking whether {@code DEBUG} level is enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param args List of arguments
+     */
+    public static void debugForced(
+        final Object source,
+        final String msg, final Object... args
+    ) {
+        if (!AsyncLogging.offer(Level.FINE, source, msg, args)) {
+            Logger.logger(source).debug(
+                LazyMessage.FORMAT, LazyMessage.create(msg, args)
+            );
+        }
+    }
+
+    /**
+     * Protocol one message with one argument, with {@code DEBUG} priority
+     * level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void debug(
+        final Object source, final String msg,
+        final Object first
+    ) {
+        if (Logger.isDebugEnabled(source)) {
+            Logger.debugForced(source, msg, first);
+        }
+    }
+
+    /**
+     * Protocol one message with one argument, with {@code DEBUG} priority
+     * level without internal checking whether {@code DEBUG} level is
+     * enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void debugForced(
+        final Object source, final String msg,
+        final Object first
+    ) {
+        Logger.debugForced(source, msg, new Object[] {first});
+    }
+
+    /**
+     * Protocol one message with two arguments, with {@code DEBUG} priority
+     * level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The first argument
+     * @param second The second argument
+     * @since 0.25
+     */
+    public static void debug(
+        final Object source, final String msg,
+        final Object first, final Object second
+    ) {
+        if (Logger.isDebugEnabled(source)) {
+            Logger.debugForced(source, msg, first, second);
+        }
+    }
+
+    /**
+     * Protocol one message with two arguments, with {@code DEBUG} priority
+     * level without internal checking whether {@code DEBUG} level is
+     * enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The first argument
+     * @param second The second argument
+     * @since 0.25
+     */
+    public static void debugForced(
+        final Object source, final String msg,
+        final Object first, final Object second
+    ) {
+        Logger.debugForced(source, msg, new Object[] {first, second});
+    }
+
+    /**
+     * Protocol one message with three arguments, with {@code DEBUG}
+     * priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The first argument
+     * @param second The second argument
+     * @param third The third argument
+     * @since 0.25
+     * @checkstyle ParameterNumber (4 lines)
+     */
+    public static void debug(
+        final Object source, final String msg,
+        final Object first, final Object second,
+        final Object third
+    ) {
+        if (Logger.isDebugEnabled(source)) {
+            Logger.debugForced(source, msg, first, second, third);
+        }
+    }
+
+    /**
+     * Protocol one message with three arguments, with {@code DEBUG}
+     * priority level without internal checking whether {@code DEBUG} level
+     * is enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The first argument
+     * @param second The second argument
+     * @param third The third argument
+     * @since 0.25
+     * @checkstyle ParameterNumber (4 lines)
+     */
+    public static void debugForced(
+        final Object source, final String msg,
+        final Object first, final Object second,
+        final Object third
+    ) {
+        Logger.debugForced(source, msg, new Object[] {first, second, third});
+    }
+
+    /**
+     * Protocol one message with four arguments, with {@code DEBUG}
+     * priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The first argument
+     * @param second The second argument
+     * @param third The third argument
+     * @param fourth The fourth argument
+     * @since 0.25
+     * @checkstyle ParameterNumber (4 lines)
+     */
+    public static void debug(
+        final Object source, final String msg,
+        final Object first, final Object second,
+        final Object third, final Object fourth
+    ) {
+        if (Logger.isDebugEnabled(source)) {
+            Logger.debugForced(source, msg, first, second, third, fourth);
+        }
+    }
+
+    /**
+     * Protocol one message with four arguments, with {@code DEBUG}
+     * priority level without internal checking whether {@code DEBUG} level
+     * is enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The first argument
+     * @param second The second argument
+     * @param third The third argument
+     * @param fourth The fourth argument
+     * @since 0.25
+     * @checkstyle ParameterNumber (4 lines)
+     */
+    public static void debugForced(
+        final Object source, final String msg,
+        final Object first, final Object second,
+        final Object third, final Object fourth
+    ) {
+        Logger.debugForced(
+            source, msg, new Object[] {first, second, third, fourth}
+        );
+    }
+
+    /**
+     * Protocol one message with one {@code long} argument, with
+     * {@code DEBUG} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void debug(
+        final Object source, final String msg,
+        final long first
+    ) {
+        if (Logger.isDebugEnabled(source)) {
+            Logger.debugForced(source, msg, first);
+        }
+    }
+
+    /**
+     * Protocol one message with one {@code long} argument, with
+     * {@code DEBUG} priority level without internal checking whether
+     * {@code DEBUG} level is enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void debugForced(
+        final Object source, final String msg,
+        final long first
+    ) {
+        Logger.debugForced(source, msg, new Object[] {first});
+    }
+
+    /**
+     * Protocol one message with one {@code int} argument, with
+     * {@code DEBUG} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void debug(
+        final Object source, final String msg,
+        final int first
+    ) {
+        if (Logger.isDebugEnabled(source)) {
+            Logger.debugForced(source, msg, first);
+        }
+    }
+
+    /**
+     * Protocol one message with one {@code int} argument, with
+     * {@code DEBUG} priority level without internal checking whether
+     * {@code DEBUG} level is enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void debugForced(
+        final Object source, final String msg,
+        final int first
+    ) {
+        Logger.debugForced(source, msg, new Object[] {first});
+    }
+
+    /**
+     * Protocol one message with one {@code double} argument, with
+     * {@code DEBUG} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void debug(
+        final Object source, final String msg,
+        final double first
+    ) {
+        if (Logger.isDebugEnabled(source)) {
+            Logger.debugForced(source, msg, first);
+        }
+    }
+
+    /**
+     * Protocol one message with one {@code double} argument, with
+     * {@code DEBUG} priority level without internal checking whether
+     * {@code DEBUG} level is enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void debugForced(
+        final Object source, final String msg,
+        final double first
+    ) {
+        Logger.debugForced(source, msg, new Object[] {first});
+    }
+
+    /**
+     * Protocol one message with one {@code char} argument, with
+     * {@code DEBUG} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void debug(
+        final Object source, final String msg,
+        final char first
+    ) {
+        if (Logger.isDebugEnabled(source)) {
+            Logger.debugForced(source, msg, first);
+        }
+    }
+
+    /**
+     * Protocol one message with one {@code byte} argument, with
+     * {@code DEBUG} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void debug(
+        final Object source, final String msg,
+        final byte first
+    ) {
+        if (Logger.isDebugEnabled(source)) {
+            Logger.debugForced(source, msg, first);
+        }
+    }
+
+    /**
+     * Protocol one message with one {@code short} argument, with
+     * {@code DEBUG} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void debug(
+        final Object source, final String msg,
+        final short first
+    ) {
+        if (Logger.isDebugEnabled(source)) {
+            Logger.debugForced(source, msg, first);
+        }
+    }
+
+    /**
+     * Protocol one message with one {@code char} argument, with
+     * {@code DEBUG} priority level without internal checking whether
+     * {@code DEBUG} level is enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void debugForced(
+        final Object source, final String msg,
+        final char first
+    ) {
+        Logger.debugForced(source, msg, new Object[] {first});
+    }
+
+    /**
+     * Protocol one message with one {@code byte} argument, with
+     * {@code DEBUG} priority level without internal checking whether
+     * {@code DEBUG} level is enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void debugForced(
+        final Object source, final String msg,
+        final byte first
+    ) {
+        Logger.debugForced(source, msg, new Object[] {first});
+    }
+
+    /**
+     * Protocol one message with one {@code short} argument, with
+     * {@code DEBUG} priority level without internal checking whether
+     * {@code DEBUG} level is enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void debugForced(
+        final Object source, final String msg,
+        final short first
+    ) {
+        Logger.debugForced(source, msg, new Object[] {first});
+    }
+
+    /**
+     * Protocol one message with one {@code float} argument, with
+     * {@code DEBUG} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void debug(
+        final Object source, final String msg,
+        final float first
+    ) {
+        if (Logger.isDebugEnabled(source)) {
+            Logger.debugForced(source, msg, first);
+        }
+    }
+
+    /**
+     * Protocol one message with one {@code float} argument, with
+     * {@code DEBUG} priority level without internal checking whether
+     * {@code DEBUG} level is enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void debugForced(
+        final Object source, final String msg,
+        final float first
+    ) {
+        Logger.debugForced(source, msg, new Object[] {first});
+    }
+
+    /**
+     * Protocol one message, with {@code INFO} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged
+     * @since 0.7.11
+     */
+    public static void info(final Object source, final String msg) {
+        Logger.info(source, msg, Logger.EMPTY);
+    }
+
+    /**
+     * Protocol one message, with {@code INFO} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param args List of arguments
+     */
+    public static void info(
+        final Object source,
+        final String msg, final Object... args
+    ) {
+        if (Logger.isInfoEnabled(source)) {
+            Logger.infoForced(source, msg, args);
+        }
+    }
+
+    /**
+     * Protocol one message, with {@code INFO} priority level
+     * without internal checking whether {@code INFO} level is enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param args List of arguments
+     */
+    public static void infoForced(
+        final Object source, final String msg,
+        final Object... args
+    ) {
+        if (!AsyncLogging.offer(Level.INFO, source, msg, args)) {
+            Logger.logger(source).info(
+                LazyMessage.FORMAT, LazyMessage.create(msg, args)
+            );
+        }
+    }
+
+    /**
+     * Protocol one message with one argument, with {@code INFO} priority
+     * level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void info(
+        final Object source, final String msg,
+        final Object first
+    ) {
+        if (Logger.isInfoEnabled(source)) {
+            Logger.infoForced(source, msg, first);
+        }
+    }
+
+    /**
+     * Protocol one message with one argument, with {@code INFO} priority
+     * level without internal checking whether {@code INFO} level is
+     * enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void infoForced(
+        final Object source, final String msg,
+        final Object first
+    ) {
+        Logger.infoForced(source, msg, new Object[] {first});
+    }
+
+    /**
+     * Protocol one message with two arguments, with {@code INFO} priority
+     * level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The first argument
+     * @param second The second argument
+     * @since 0.25
+     */
+    public static void info(
+        final Object source, final String msg,
+        final Object first, final Object second
+    ) {
+        if (Logger.isInfoEnabled(source)) {
+            Logger.infoForced(source, msg, first, second);
+        }
+    }
+
+    /**
+     * Protocol one message with two arguments, with {@code INFO} priority
+     * level without internal checking whether {@code INFO} level is
+     * enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The first argument
+     * @param second The second argument
+     * @since 0.25
+     */
+    public static void infoForced(
+        final Object source, final String msg,
+        final Object first, final Object second
+    ) {
+        Logger.infoForced(source, msg, new Object[] {first, second});
+    }
+
+    /**
+     * Protocol one message with three arguments, with {@code INFO}
+     * priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The first argument
+     * @param second The second argument
+     * @param third The third argument
+     * @since 0.25
+     * @checkstyle ParameterNumber (4 lines)
+     */
+    public static void info(
+        final Object source, final String msg,
+        final Object first, final Object second,
+        final Object third
+    ) {
+        if (Logger.isInfoEnabled(source)) {
+            Logger.infoForced(source, msg, first, second, third);
+        }
+    }
+
+    /**
+     * Protocol one message with three arguments, with {@code INFO}
+     * priority level without internal checking whether {@code INFO} level
+     * is enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The first argument
+     * @param second The second argument
+     * @param third The third argument
+     * @since 0.25
+     * @checkstyle ParameterNumber (4 lines)
+     */
+    public static void infoForced(
+        final Object source, final String msg,
+        final Object first, final Object second,
+        final Object third
+    ) {
+        Logger.infoForced(source, msg, new Object[] {first, second, third});
+    }
+
+    /**
+     * Protocol one message with four arguments, with {@code INFO} priority
+     * level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The first argument
+     * @param second The second argument
+     * @param third The third argument
+     * @param fourth The fourth argument
+     * @since 0.25
+     * @checkstyle ParameterNumber (4 lines)
+     */
+    public static void info(
+        final Object source, final String msg,
+        final Object first, final Object second,
+        final Object third, final Object fourth
+    ) {
+        if (Logger.isInfoEnabled(source)) {
+            Logger.infoForced(source, msg, first, second, third, fourth);
+        }
+    }
+
+    /**
+     * Protocol one message with four arguments, with {@code INFO} priority
+     * level without internal checking whether {@code INFO} level is
+     * enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The first argument
+     * @param second The second argument
+     * @param third The third argument
+     * @param fourth The fourth argument
+     * @since 0.25
+     * @checkstyle ParameterNumber (4 lines)
+     */
+    public static void infoForced(
+        final Object source, final String msg,
+        final Object first, final Object second,
+        final Object third, final Object fourth
+    ) {
+        Logger.infoForced(
+            source, msg, new Object[] {first, second, third, fourth}
+        );
+    }
+
+    /**
+     * Protocol one message with one {@code long} argument, with
+     * {@code INFO} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void info(
+        final Object source, final String msg,
+        final long first
+    ) {
+        if (Logger.isInfoEnabled(source)) {
+            Logger.infoForced(source, msg, first);
+        }
+    }
+
+    /**
+     * Protocol one message with one {@code long} argument, with
+     * {@code INFO} priority level without internal checking whether
+     * {@code INFO} level is enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void infoForced(
+        final Object source, final String msg,
+        final long first
+    ) {
+        Logger.infoForced(source, msg, new Object[] {first});
+    }
+
+    /**
+     * Protocol one message with one {@code int} argument, with
+     * {@code INFO} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void info(
+        final Object source, final String msg,
+        final int first
+    ) {
+        if (Logger.isInfoEnabled(source)) {
+            Logger.infoForced(source, msg, first);
+        }
+    }
+
+    /**
+     * Protocol one message with one {@code int} argument, with
+     * {@code INFO} priority level without internal checking whether
+     * {@code INFO} level is enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void infoForced(
+        final Object source, final String msg,
+        final int first
+    ) {
+        Logger.infoForced(source, msg, new Object[] {first});
+    }
+
+    /**
+     * Protocol one message with one {@code double} argument, with
+     * {@code INFO} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void info(
+        final Object source, final String msg,
+        final double first
+    ) {
+        if (Logger.isInfoEnabled(source)) {
+            Logger.infoForced(source, msg, first);
+        }
+    }
+
+    /**
+     * Protocol one message with one {@code double} argument, with
+     * {@code INFO} priority level without internal checking whether
+     * {@code INFO} level is enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void infoForced(
+        final Object source, final String msg,
+        final double first
+    ) {
+        Logger.infoForced(source, msg, new Object[] {first});
+    }
+
+    /**
+     * Protocol one message with one {@code char} argument, with
+     * {@code INFO} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void info(
+        final Object source, final String msg,
+        final char first
+    ) {
+        if (Logger.isInfoEnabled(source)) {
+            Logger.infoForced(source, msg, first);
+        }
+    }
+
+    /**
+     * Protocol one message with one {@code byte} argument, with
+     * {@code INFO} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void info(
+        final Object source, final String msg,
+        final byte first
+    ) {
+        if (Logger.isInfoEnabled(source)) {
+            Logger.infoForced(source, msg, first);
+        }
+    }
+
+    /**
+     * Protocol one message with one {@code short} argument, with
+     * {@code INFO} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void info(
+        final Object source, final String msg,
+        final short first
+    ) {
+        if (Logger.isInfoEnabled(source)) {
+            Logger.infoForced(source, msg, first);
+        }
+    }
+
+    /**
+     * Protocol one message with one {@code char} argument, with
+     * {@code INFO} priority level without internal checking whether
+     * {@code INFO} level is enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void infoForced(
+        final Object source, final String msg,
+        final char first
+    ) {
+        Logger.infoForced(source, msg, new Object[] {first});
+    }
+
+    /**
+     * Protocol one message with one {@code byte} argument, with
+     * {@code INFO} priority level without internal checking whether
+     * {@code INFO} level is enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void infoForced(
+        final Object source, final String msg,
+        final byte first
+    ) {
+        Logger.infoForced(source, msg, new Object[] {first});
+    }
+
+    /**
+     * Protocol one message with one {@code short} argument, with
+     * {@code INFO} priority level without internal checking whether
+     * {@code INFO} level is enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void infoForced(
+        final Object source, final String msg,
+        final short first
+    ) {
+        Logger.infoForced(source, msg, new Object[] {first});
+    }
+
+    /**
+     * Protocol one message with one {@code float} argument, with
+     * {@code INFO} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void info(
+        final Object source, final String msg,
+        final float first
+    ) {
+        if (Logger.isInfoEnabled(source)) {
+            Logger.infoForced(source, msg, first);
+        }
+    }
+
+    /**
+     * Protocol one message with one {@code float} argument, with
+     * {@code INFO} priority level without internal checking whether
+     * {@code INFO} level is enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void infoForced(
+        final Object source, final String msg,
+        final float first
+    ) {
+        Logger.infoForced(source, msg, new Object[] {first});
+    }
+
+    /**
+     * Protocol one message, with {@code WARN} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged
+     * @since 0.7.11
+     */
+    public static void warn(final Object source, final String msg) {
+        Logger.warn(source, msg, Logger.EMPTY);
+    }
+
+    /**
+     * Protocol one message, with {@code WARN} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param args List of arguments
+     */
+    public static void warn(
+        final Object source,
+        final String msg, final Object... args
+    ) {
+        if (Logger.isWarnEnabled(source)) {
+            Logger.warnForced(source, msg, args);
+        }
+    }
+
+    /**
+     * Protocol one message, with {@code WARN} priority level
+     * without internal checking whether {@code WARN} level is enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param args List of arguments
+     */
+    public static void warnForced(
+        final Object source,
+        final String msg, final Object... args
+    ) {
+        if (!AsyncLogging.offer(Level.WARNING, source, msg, args)) {
+            Logger.logger(source).warn(
+                LazyMessage.FORMAT, LazyMessage.create(msg, args)
+            );
+        }
+    }
+
+    /**
+     * Protocol one message with one argument, with {@code WARN} priority
+     * level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void warn(
+        final Object source, final String msg,
+        final Object first
+    ) {
+        if (Logger.isWarnEnabled(source)) {
+            Logger.warnForced(source, msg, first);
+        }
+    }
+
+    /**
+     * Protocol one message with one argument, with {@code WARN} priority
+     * level without internal checking whether {@code WARN} level is
+     * enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void warnForced(
+        final Object source, final String msg,
+        final Object first
+    ) {
+        Logger.warnForced(source, msg, new Object[] {first});
+    }
+
+    /**
+     * Protocol one message with two arguments, with {@code WARN} priority
+     * level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The first argument
+     * @param second The second argument
+     * @since 0.25
+     */
+    public static void warn(
+        final Object source, final String msg,
+        final Object first, final Object second
+    ) {
+        if (Logger.isWarnEnabled(source)) {
+            Logger.warnForced(source, msg, first, second);
+        }
+    }
+
+    /**
+     * Protocol one message with two arguments, with {@code WARN} priority
+     * level without internal checking whether {@code WARN} level is
+     * enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The first argument
+     * @param second The second argument
+     * @since 0.25
+     */
+    public static void warnForced(
+        final Object source, final String msg,
+        final Object first, final Object second
+    ) {
+        Logger.warnForced(source, msg, new Object[] {first, second});
+    }
+
+    /**
+     * Protocol one message with three arguments, with {@code WARN}
+     * priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The first argument
+     * @param second The second argument
+     * @param third The third argument
+     * @since 0.25
+     * @checkstyle ParameterNumber (4 lines)
+     */
+    public static void warn(
+        final Object source, final String msg,
+        final Object first, final Object second,
+        final Object third
+    ) {
+        if (Logger.isWarnEnabled(source)) {
+            Logger.warnForced(source, msg, first, second, third);
+        }
+    }
+
+    /**
+     * Protocol one message with three arguments, with {@code WARN}
+     * priority level without internal checking whether {@code WARN} level
+     * is enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The first argument
+     * @param second The second argument
+     * @param third The third argument
+     * @since 0.25
+     * @checkstyle ParameterNumber (4 lines)
+     */
+    public static void warnForced(
+        final Object source, final String msg,
+        final Object first, final Object second,
+        final Object third
+    ) {
+        Logger.warnForced(source, msg, new Object[] {first, second, third});
+    }
+
+    /**
+     * Protocol one message with four arguments, with {@code WARN} priority
+     * level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The first argument
+     * @param second The second argument
+     * @param third The third argument
+     * @param fourth The fourth argument
+     * @since 0.25
+     * @checkstyle ParameterNumber (4 lines)
+     */
+    public static void warn(
+        final Object source, final String msg,
+        final Object first, final Object second,
+        final Object third, final Object fourth
+    ) {
+        if (Logger.isWarnEnabled(source)) {
+            Logger.warnForced(source, msg, first, second, third, fourth);
+        }
+    }
+
+    /**
+     * Protocol one message with four arguments, with {@code WARN} priority
+     * level without internal checking whether {@code WARN} level is
+     * enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The first argument
+     * @param second The second argument
+     * @param third The third argument
+     * @param fourth The fourth argument
+     * @since 0.25
+     * @checkstyle ParameterNumber (4 lines)
+     */
+    public static void warnForced(
+        final Object source, final String msg,
+        final Object first, final Object second,
+        final Object third, final Object fourth
+    ) {
+        Logger.warnForced(
+            source, msg, new Object[] {first, second, third, fourth}
+        );
+    }
+
+    /**
+     * Protocol one message with one {@code long} argument, with
+     * {@code WARN} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void warn(
+        final Object source, final String msg,
+        final long first
+    ) {
+        if (Logger.isWarnEnabled(source)) {
+            Logger.warnForced(source, msg, first);
+        }
+    }
+
+    /**
+     * Protocol one message with one {@code long} argument, with
+     * {@code WARN} priority level without internal checking whether
+     * {@code WARN} level is enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void warnForced(
+        final Object source, final String msg,
+        final long first
+    ) {
+        Logger.warnForced(source, msg, new Object[] {first});
+    }
 
     /**
-     * Empty array of objects.
+     * Protocol one message with one {@code int} argument, with
+     * {@code WARN} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
      */
-    private static final Object[] EMPTY = {};
+    public static void warn(
+        final Object source, final String msg,
+        final int first
+    ) {
+        if (Logger.isWarnEnabled(source)) {
+            Logger.warnForced(source, msg, first);
+        }
+    }
 
     /**
-     * UTF-8.
+     * Protocol one message with one {@code int} argument, with
+     * {@code WARN} priority level without internal checking whether
+     * {@code WARN} level is enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
      */
-    private static final String UTF_8 = "UTF-8";
+    public static void warnForced(
+        final Object source, final String msg,
+        final int first
+    ) {
+        Logger.warnForced(source, msg, new Object[] {first});
+    }
 
     /**
-     * This is utility class.
+     * Protocol one message with one {@code double} argument, with
+     * {@code WARN} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
      */
-    private Logger() {
-        // intentionally empty
+    public static void warn(
+        final Object source, final String msg,
+        final double first
+    ) {
+        if (Logger.isWarnEnabled(source)) {
+            Logger.warnForced(source, msg, first);
+        }
     }
 
     /**
-     * Format one string.
-     * @param fmt The format
-     * @param args List of arbitrary arguments
-     * @return Formatted string
+     * Protocol one message with one {@code double} argument, with
+     * {@code WARN} priority level without internal checking whether
+     * {@code WARN} level is enabled.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
      */
-    public static String format(final String fmt, final Object... args) {
-        final String result;
-        if (args.length == 0) {
-            result = Logger.expandNoArgSpecifiers(fmt);
-        } else {
-            final PreFormatter pre = PreFormatter.create(fmt, args);
-            result = String.format(pre.getFormat(), pre.getArguments());
+    public static void warnForced(
+        final Object source, final String msg,
+        final double first
+    ) {
+        Logger.warnForced(source, msg, new Object[] {first});
+    }
+
+    /**
+     * Protocol one message with one {@code char} argument, with
+     * {@code WARN} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void warn(
+        final Object source, final String msg,
+        final char first
+    ) {
+        if (Logger.isWarnEnabled(source)) {
+            Logger.warnForced(source, msg, first);
         }
-        return result;
     }
 
     /**
-     * Protocol one message, with {@code TRACE} priority level.
+     * Protocol one message with one {@code byte} argument, with
+     * {@code WARN} priority level.
      * @param source The source of the logging operation
-     * @param msg The text message to be logged
-     * @since 0.7.11
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
      */
-    public static void trace(final Object source, final String msg) {
-        Logger.trace(source, msg, Logger.EMPTY);
+    public static void warn(
+        final Object source, final String msg,
+        final byte first
+    ) {
+        if (Logger.isWarnEnabled(source)) {
+            Logger.warnForced(source, msg, first);
+        }
     }
 
     /**
-     * Protocol one message, with {@code TRACE} priority level.
+     * Protocol one message with one {@code short} argument, with
+     * {@code WARN} priority level.
      * @param source The source of the logging operation
      * @param msg The text message to be logged, with meta-tags
-     * @param args List of arguments
+     * @param first The argument
+     * @since 0.25
      */
-    public static void trace(
-        final Object source,
-        final String msg, final Object... args
+    public static void warn(
+        final Object source, final String msg,
+        final short first
     ) {
-        if (Logger.isTraceEnabled(source)) {
-            Logger.traceForced(source, msg, args);
+        if (Logger.isWarnEnabled(source)) {
+            Logger.warnForced(source, msg, first);
         }
     }
 
     /**
-     * Protocol one message, with {@code TRACE} priority level
-     * without internal checking whether {@code TRACE} level is enabled.
+     * Protocol one message with one {@code char} argument, with
+     * {@code WARN} priority level without internal checking whether
+     * {@code WARN} level is enabled.
      * @param source The source of the logging operation
      * @param msg The text message to be logged, with meta-tags
-     * @param args List of arguments
+     * @param first The argument
+     * @since 0.25
      */
-    public static void traceForced(
-        final Object source,
-        final String msg, final Object... args
+    public static void warnForced(
+        final Object source, final String msg,
+        final char first
     ) {
-        Logger.logger(source).trace(Logger.format(msg, args));
+        Logger.warnForced(source, msg, new Object[] {first});
     }
 
     /**
-     * Protocol one message, with {@code DEBUG} priority level.
+     * Protocol one message with one {@code byte} argument, with
+     * {@code WARN} priority level without internal checking whether
+     * {@code WARN} level is enabled.
      * @param source The source of the logging operation
      * @param msg The text message to be logged, with meta-tags
-     * @since 0.7.11
+     * @param first The argument
+     * @since 0.25
      */
-    public static void debug(final Object source, final String msg) {
-        Logger.debug(source, msg, Logger.EMPTY);
+    public static void warnForced(
+        final Object source, final String msg,
+        final byte first
+    ) {
+        Logger.warnForced(source, msg, new Object[] {first});
     }
 
     /**
-     * Protocol one message, with {@code DEBUG} priority level.
+     * Protocol one message with one {@code short} argument, with
+     * {@code WARN} priority level without internal checking whether
+     * {@code WARN} level is enabled.
      * @param source The source of the logging operation
      * @param msg The text message to be logged, with meta-tags
-     * @param args List of arguments
+     * @param first The argument
+     * @since 0.25
      */
-    public static void debug(
-        final Object source,
-        final String msg, final Object... args
+    public static void warnForced(
+        final Object source, final String msg,
+        final short first
     ) {
-        if (Logger.isDebugEnabled(source)) {
-            Logger.debugForced(source, msg, args);
+        Logger.warnForced(source, msg, new Object[] {first});
+    }
+
+    /**
+     * Protocol one message with one {@code float} argument, with
+     * {@code WARN} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void warn(
+        final Object source, final String msg,
+        final float first
+    ) {
+        if (Logger.isWarnEnabled(source)) {
+            Logger.warnForced(source, msg, first);
         }
     }
 
     /**
-     * Protocol one message, with {@code DEBUG} priority level
-     * without internal checking whether {@code DEBUG} level is enabled.
+     * Protocol one message with one {@code float} argument, with
+     * {@code WARN} priority level without internal checking whether
+     * {@code WARN} level is enabled.
      * @param source The source of the logging operation
      * @param msg The text message to be logged, with meta-tags
-     * @param args List of arguments
+     * @param first The argument
+     * @since 0.25
      */
-    public static void debugForced(
-        final Object source,
-        final String msg, final Object... args
+    public static void warnForced(
+        final Object source, final String msg,
+        final float first
     ) {
-        Logger.logger(source).debug(Logger.format(msg, args));
+        Logger.warnForced(source, msg, new Object[] {first});
     }
 
     /**
-     * Protocol one message, with {@code INFO} priority level.
+     * Protocol one message, with {@code ERROR} priority level.
      * @param source The source of the logging operation
      * @param msg The text message to be logged
      * @since 0.7.11
      */
-    public static void info(final Object source, final String msg) {
-        Logger.info(source, msg, Logger.EMPTY);
+    public static void error(final Object source, final String msg) {
+        Logger.error(source, msg, Logger.EMPTY);
     }
 
     /**
-     * Protocol one message, with {@code INFO} priority level.
+     * Protocol one message, with {@code ERROR} priority level.
      * @param source The source of the logging operation
      * @param msg The text message to be logged, with meta-tags
      * @param args List of arguments
      */
-    public static void info(
-        final Object source,
-        final String msg, final Object... args
+    public static void error(final Object source,
+        final String msg, final Object... args) {
+        if (Logger.isErrorEnabled(source)
+            && !AsyncLogging.offer(Level.SEVERE, source, msg, args)) {
+            Logger.logger(source).error(
+                LazyMessage.FORMAT, LazyMessage.create(msg, args)
+            );
+        }
+    }
+
+    /**
+     * Protocol one message with one argument, with {@code ERROR} priority
+     * level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void error(
+        final Object source, final String msg,
+        final Object first
     ) {
-        if (Logger.isInfoEnabled(source)) {
-            Logger.infoForced(source, msg, args);
+        if (Logger.isErrorEnabled(source)) {
+            Logger.error(source, msg, new Object[] {first});
         }
     }
 
     /**
-     * Protocol one message, with {@code INFO} priority level
-     * without internal checking whether {@code INFO} level is enabled.
+     * Protocol one message with two arguments, with {@code ERROR} priority
+     * level.
      * @param source The source of the logging operation
      * @param msg The text message to be logged, with meta-tags
-     * @param args List of arguments
+     * @param first The first argument
+     * @param second The second argument
+     * @since 0.25
      */
-    public static void infoForced(
+    public static void error(
         final Object source, final String msg,
-        final Object... args
+        final Object first, final Object second
     ) {
-        Logger.logger(source).info(Logger.format(msg, args));
+        if (Logger.isErrorEnabled(source)) {
+            Logger.error(source, msg, new Object[] {first, second});
+        }
     }
 
     /**
-     * Protocol one message, with {@code WARN} priority level.
+     * Protocol one message with three arguments, with {@code ERROR}
+     * priority level.
      * @param source The source of the logging operation
-     * @param msg The text message to be logged
-     * @since 0.7.11
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The first argument
+     * @param second The second argument
+     * @param third The third argument
+     * @since 0.25
+     * @checkstyle ParameterNumber (4 lines)
      */
-    public static void warn(final Object source, final String msg) {
-        Logger.warn(source, msg, Logger.EMPTY);
+    public static void error(
+        final Object source, final String msg,
+        final Object first, final Object second,
+        final Object third
+    ) {
+        if (Logger.isErrorEnabled(source)) {
+            Logger.error(source, msg, new Object[] {first, second, third});
+        }
     }
 
     /**
-     * Protocol one message, with {@code WARN} priority level.
+     * Protocol one message with four arguments, with {@code ERROR}
+     * priority level.
      * @param source The source of the logging operation
      * @param msg The text message to be logged, with meta-tags
-     * @param args List of arguments
+     * @param first The first argument
+     * @param second The second argument
+     * @param third The third argument
+     * @param fourth The fourth argument
+     * @since 0.25
+     * @checkstyle ParameterNumber (4 lines)
      */
-    public static void warn(
-        final Object source,
-        final String msg, final Object... args
+    public static void error(
+        final Object source, final String msg,
+        final Object first, final Object second,
+        final Object third, final Object fourth
     ) {
-        if (Logger.isWarnEnabled(source)) {
-            Logger.warnForced(source, msg, args);
+        if (Logger.isErrorEnabled(source)) {
+            Logger.error(
+                source, msg, new Object[] {first, second, third, fourth}
+            );
         }
     }
 
     /**
-     * Protocol one message, with {@code WARN} priority level
-     * without internal checking whether {@code WARN} level is enabled.
+     * Protocol one message with one {@code long} argument, with
+     * {@code ERROR} priority level.
      * @param source The source of the logging operation
      * @param msg The text message to be logged, with meta-tags
-     * @param args List of arguments
+     * @param first The argument
+     * @since 0.25
      */
-    public static void warnForced(
-        final Object source,
-        final String msg, final Object... args
+    public static void error(
+        final Object source, final String msg,
+        final long first
     ) {
-        Logger.logger(source).warn(Logger.format(msg, args));
+        if (Logger.isErrorEnabled(source)) {
+            Logger.error(source, msg, new Object[] {first});
+        }
     }
 
     /**
-     * Protocol one message, with {@code ERROR} priority level.
+     * Protocol one message with one {@code int} argument, with
+     * {@code ERROR} priority level.
      * @param source The source of the logging operation
-     * @param msg The text message to be logged
-     * @since 0.7.11
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
      */
-    public static void error(final Object source, final String msg) {
-        Logger.error(source, msg, Logger.EMPTY);
+    public static void error(
+        final Object source, final String msg,
+        final int first
+    ) {
+        if (Logger.isErrorEnabled(source)) {
+            Logger.error(source, msg, new Object[] {first});
+        }
     }
 
     /**
-     * Protocol one message, with {@code ERROR} priority level.
+     * Protocol one message with one {@code double} argument, with
+     * {@code ERROR} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void error(
+        final Object source, final String msg,
+        final double first
+    ) {
+        if (Logger.isErrorEnabled(source)) {
+            Logger.error(source, msg, new Object[] {first});
+        }
+    }
+
+    /**
+     * Protocol one message with one {@code char} argument, with
+     * {@code ERROR} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void error(
+        final Object source, final String msg,
+        final char first
+    ) {
+        if (Logger.isErrorEnabled(source)) {
+            Logger.error(source, msg, new Object[] {first});
+        }
+    }
+
+    /**
+     * Protocol one message with one {@code byte} argument, with
+     * {@code ERROR} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void error(
+        final Object source, final String msg,
+        final byte first
+    ) {
+        if (Logger.isErrorEnabled(source)) {
+            Logger.error(source, msg, new Object[] {first});
+        }
+    }
+
+    /**
+     * Protocol one message with one {@code short} argument, with
+     * {@code ERROR} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void error(
+        final Object source, final String msg,
+        final short first
+    ) {
+        if (Logger.isErrorEnabled(source)) {
+            Logger.error(source, msg, new Object[] {first});
+        }
+    }
+
+    /**
+     * Protocol one message with one {@code float} argument, with
+     * {@code ERROR} priority level.
+     * @param source The source of the logging operation
+     * @param msg The text message to be logged, with meta-tags
+     * @param first The argument
+     * @since 0.25
+     */
+    public static void error(
+        final Object source, final String msg,
+        final float first
+    ) {
+        if (Logger.isErrorEnabled(source)) {
+            Logger.error(source, msg, new Object[] {first});
+        }
+    }
+
+    /**
+     * Format the message and send it to SLF4J, in the current thread.
+     * @param level The level, one of those used by {@link Logger}
      * @param source The source of the logging operation
      * @param msg The text message to be logged, with meta-tags
      * @param args List of arguments
      */
-    public static void error(final Object source,
+    static void dispatch(final Level level, final Object source,
         final String msg, final Object... args) {
-        Logger.logger(source).error(Logger.format(msg, args));
+        final org.slf4j.Logger logger = Logger.logger(source);
+        final LazyMessage message = LazyMessage.create(msg, args);
+        if (level.equals(Level.SEVERE)) {
+            logger.error(LazyMessage.FORMAT, message);
+        } else if (level.equals(Level.WARNING)) {
+            logger.warn(LazyMessage.FORMAT, message);
+        } else if (level.equals(Level.INFO)) {
+            logger.info(LazyMessage.FORMAT, message);
+        } else if (level.equals(Level.FINE)) {
+            logger.debug(LazyMessage.FORMAT, message);
+        } else {
+            logger.trace(LazyMessage.FORMAT, message);
+        }
     }
 
     /**
@@ -318,6 +2135,17 @@ public final class Logger {
         return Logger.logger(source).isWarnEnabled();
     }
 
+    /**
+     * Validates whether {@code ERROR} priority level is enabled for
+     * this particular logger.
+     * @param source The source of the logging operation
+     * @return Is it enabled?
+     * @since 0.25
+     */
+    public static boolean isErrorEnabled(final Object source) {
+        return Logger.logger(source).isErrorEnabled();
+    }
+
     /**
      * Is the given logging level enabled?
      * @param level The level of logging
@@ -486,22 +2314,52 @@ public final class Logger {
 
     /**
      * Get the instance of the logger for this particular caller.
+     *
+     * <p>Loggers are looked up in SLF4J only once per class or name
+     * and then cached, so that a call at a disabled level costs a field
+     * read and not a lookup in the factory.
+     *
      * @param source Source of the logging operation
      * @return The instance of {@code Logger} class
      */
     private static org.slf4j.Logger logger(final Object source) {
         final org.slf4j.Logger logger;
         if (source instanceof Class) {
-            logger = LoggerFactory.getLogger((Class<?>) source);
+            logger = Logger.TYPED.get((Class<?>) source);
         } else if (source instanceof String) {
-            logger = LoggerFactory.getLogger(String.class.cast(source));
+            final String name = String.class.cast(source);
+            final org.slf4j.Logger found = Logger.NAMED.get(name);
+            if (found == null) {
+                final org.slf4j.Logger fresh =
+                    Logger.patched(LoggerFactory.getLogger(name));
+                final org.slf4j.Logger before =
+                    Logger.NAMED.putIfAbsent(name, fresh);
+                if (before == null) {
+                    logger = fresh;
+                } else {
+                    logger = before;
+                }
+            } else {
+                logger = found;
+            }
         } else {
-            logger = LoggerFactory.getLogger(source.getClass());
+            logger = Logger.TYPED.get(source.getClass());
         }
+        return logger;
+    }
+
+    /**
+     * Fix the %L log4j parameter in the logger, if it's necessary
+     * (only once per class of the logger).
+     * @param logger The logger just created
+     * @return The same logger
+     */
+    private static org.slf4j.Logger patched(final org.slf4j.Logger logger) {
         if ("org.slf4j.impl.Log4jLoggerAdapter"
-            .equals(logger.getClass().getName())) {
+            .equals(logger.getClass().getName())
+            && Logger.PATCHED.add(logger.getClass())) {
             try {
-                setFinalStatic(
+                Logger.setFinalStatic(
                     logger.getClass().getDeclaredField("FQCN"),
                     Logger.class.getName()
                 );
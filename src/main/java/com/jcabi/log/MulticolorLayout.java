@@ -4,11 +4,9 @@
  */
 package com.jcabi.log;
 
-import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import org.apache.log4j.EnhancedPatternLayout;
-import org.apache.log4j.Level;
 import org.apache.log4j.spi.LoggingEvent;
 
 /**
@@ -36,6 +34,20 @@ import org.apache.log4j.spi.LoggingEvent;
  * {@code <fg>} is a foreground color. Read more about
  * <a href="http://en.wikipedia.org/wiki/ANSI_escape_code">ANSI escape code</a>.
  *
+ * <p>Colors are put into the conversion pattern once, when it's
+ * configured: there is a separate {@link EnhancedPatternLayout} for every
+ * level, and another one without colors at all, so formatting an event
+ * takes no more effort than in {@link EnhancedPatternLayout}. When
+ * coloring is disabled, color codes are also removed from the formatted
+ * text, including those coming with the message itself.
+ *
+ * <p>Coloring is disabled by {@code com.jcabi.log.coloring} system
+ * property set to {@code false}, or by {@code Coloring} option of the
+ * layout. With {@code auto}, the text is colored only if the JVM has
+ * a console, so logs redirected to a file or a pipe stay clean.
+ * The decision is made once, when the layout is configured, see
+ * {@link #activateOptions()}.
+ *
  * <p>This class or its parents are <b>not</b> serializable.
  *
  * <p>Maven dependency for this class is
@@ -55,33 +67,36 @@ import org.apache.log4j.spi.LoggingEvent;
 public final class MulticolorLayout extends EnhancedPatternLayout {
 
     /**
-     * Name of the property that is used to disable log coloring.
+     * Colors of levels and the conversion pattern.
+     */
+    private final transient Palette palette = new Palette();
+
+    /**
+     * Layouts with colors of levels, by names of levels.
      */
-    private static final String COLORING_PROPERTY = "com.jcabi.log.coloring";
+    private final transient ConcurrentMap<String, EnhancedPatternLayout>
+        painted = new ConcurrentHashMap<>(0);
 
     /**
-     * Colors of levels.
+     * Layout without colors.
      */
-    private final transient ConcurrentMap<String, String> levels =
-        MulticolorLayout.levelMap();
+    private transient EnhancedPatternLayout dull;
 
     /**
-     * Store original conversation pattern to be able
-     * to recalculate it, if new colors are provided.
+     * Coloring mode set by {@link #setColoring(String)}, or {@code null}
+     * if it's taken from the system property.
      */
-    private transient String base;
+    private transient String mode;
 
     /**
-     * Color human readable data.
+     * Should the logged text be colored?
      */
-    private final transient Colors colors = new Colors();
+    private transient volatile boolean coloring = Palette.coloring(null);
 
     @Override
     public void setConversionPattern(final String pattern) {
-        this.base = pattern;
-        super.setConversionPattern(
-            new ConversionPattern(this.base, this.colors).generate()
-        );
+        this.palette.pattern(pattern);
+        this.repaint();
     }
 
     /**
@@ -91,15 +106,8 @@ public final class MulticolorLayout extends EnhancedPatternLayout {
      * @since 0.9
      */
     public void setColors(final String cols) {
-        final Map<String, String> parsed = new ParseableInformation(
-            cols
-        ).information();
-        for (final Map.Entry<String, String> entry : parsed.entrySet()) {
-            this.colors.addColor(entry.getKey(), entry.getValue());
-        }
-        if (this.base != null) {
-            this.setConversionPattern(this.base);
-        }
+        this.palette.colors(cols);
+        this.repaint();
     }
 
     /**
@@ -109,69 +117,73 @@ public final class MulticolorLayout extends EnhancedPatternLayout {
      * @since 0.9
      */
     public void setLevels(final String lev) {
-        final Map<String, String> parsed = new ParseableLevelInformation(
-            lev
-        ).information();
-        for (final Map.Entry<String, String> entry : parsed.entrySet()) {
-            this.levels.put(entry.getKey(), entry.getValue());
-        }
-    }
-
-    @Override
-    public String format(final LoggingEvent event) {
-        final Formatted formatted;
-        if (MulticolorLayout.isColoringEnabled()) {
-            formatted = this.colorfulFormatting(event);
-        } else {
-            formatted = this.dullFormatting(event);
-        }
-        return formatted.format();
+        this.palette.levels(lev);
+        this.repaint();
     }
 
     /**
-     * Generate a dull {@code Formatted}.
-     * @param event Event to be formatted
-     * @return A {@link Formatted} to format the event
-     * @checkstyle NonStaticMethodCheck (10 lines)
+     * Set the coloring mode: {@code true}, {@code false} or {@code auto}.
+     * If not set, the mode is taken from {@code com.jcabi.log.coloring}
+     * system property.
+     * @param value The mode
+     * @since 0.25
      */
-    private Formatted dullFormatting(final LoggingEvent event) {
-        return new DullyFormatted(super.format(event));
+    public void setColoring(final String value) {
+        this.mode = value;
+        this.activateOptions();
     }
 
     /**
-     * Generate a colorful {@code Formatted}.
-     * @param event Event to be formatted
-     * @return Text of a log event, probably colored with ANSI color codes
+     * Decide again, whether the text should be colored.
+     *
+     * <p>LOG4J calls it when the layout is configured. Call it again if
+     * {@code com.jcabi.log.coloring} system property is changed later.
      */
-    private Formatted colorfulFormatting(final LoggingEvent event) {
-        return new ColorfullyFormatted(
-            super.format(event),
-            this.levels.get(event.getLevel().toString())
-        );
+    @Override
+    public void activateOptions() {
+        super.activateOptions();
+        this.coloring = Palette.coloring(this.mode);
+    }
+
+    @Override
+    public String format(final LoggingEvent event) {
+        final String text;
+        if (!this.palette.ready()) {
+            text = super.format(event);
+        } else if (this.coloring) {
+            final String level = event.getLevel().toString();
+            EnhancedPatternLayout layout = this.painted.get(level);
+            if (layout == null) {
+                layout = this.painted.computeIfAbsent(level, this::paint);
+            }
+            text = layout.format(event);
+        } else {
+            text = Palette.strip(this.dull.format(event));
+        }
+        return text;
     }
 
     /**
-     * Level map.
-     * @return Map of levels
+     * Make layouts of all known levels and the layout without colors,
+     * from the current conversion pattern.
      */
-    private static ConcurrentMap<String, String> levelMap() {
-        final ConcurrentMap<String, String> map = new ConcurrentHashMap<>(0);
-        map.put(Level.TRACE.toString(), "2;33");
-        map.put(Level.DEBUG.toString(), "2;37");
-        map.put(Level.INFO.toString(), "0;37");
-        map.put(Level.WARN.toString(), "0;33");
-        map.put(Level.ERROR.toString(), "0;31");
-        map.put(Level.FATAL.toString(), "0;35");
-        return map;
+    private void repaint() {
+        this.painted.clear();
+        if (this.palette.ready()) {
+            super.setConversionPattern(this.palette.generated());
+            this.dull = new EnhancedPatternLayout(this.palette.dull());
+            for (final String level : this.palette.names()) {
+                this.painted.put(level, this.paint(level));
+            }
+        }
     }
 
     /**
-     * Should the logged text be colored or not.
-     * @return True if the coloring is enabled, or false otherwise
+     * Make a layout, which paints the text with the color of the level.
+     * @param level Name of the level
+     * @return The layout
      */
-    private static boolean isColoringEnabled() {
-        return !"false".equals(
-            System.getProperty(MulticolorLayout.COLORING_PROPERTY)
-        );
+    private EnhancedPatternLayout paint(final String level) {
+        return new EnhancedPatternLayout(this.palette.painted(level));
     }
 }
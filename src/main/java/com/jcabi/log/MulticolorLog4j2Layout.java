@@ -0,0 +1,214 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.log;
+
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.logging.log4j.core.Layout;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.Node;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginConfiguration;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.impl.LocationAware;
+import org.apache.logging.log4j.core.layout.AbstractStringLayout;
+import org.apache.logging.log4j.core.layout.ByteBufferDestination;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+
+/**
+ * Multi-color layout for Log4j 2.
+ *
+ * <p>Use it in your Log4j 2 configuration:
+ *
+ * <pre> &lt;Console name="CONSOLE"&gt;
+ *   &lt;MulticolorLayout pattern="[%color{%-5p}] %c: %m%n"/&gt;
+ * &lt;/Console&gt;</pre>
+ *
+ * <p>The pattern is the same as in {@link MulticolorLayout}, including
+ * {@code %color-red{...}} and {@code %color-<attr>;<bg>;<fg>{...}},
+ * while the rest of it is a regular pattern of Log4j 2 {@link PatternLayout}.
+ * Attributes {@code colors} and {@code levels} work as
+ * {@link MulticolorLayout#setColors(String)} and
+ * {@link MulticolorLayout#setLevels(String)} do, {@code coloring} may be
+ * {@code true}, {@code false} or {@code auto}.
+ *
+ * <p>Colors are put into the pattern when the layout is made: there is a
+ * pattern serializer for every level, so the event is printed into a
+ * reused {@link StringBuilder} and encoded into the destination without
+ * making strings, as {@link PatternLayout} does it. When coloring is
+ * disabled, color codes are also removed from the formatted text,
+ * including those coming with the message itself.
+ *
+ * <p>Log4j 2 is an optional dependency of jcabi-log, you have to add it
+ * to your project explicitly.
+ *
+ * @since 0.25
+ */
+@Plugin(
+    name = "MulticolorLayout",
+    category = Node.CATEGORY,
+    elementType = Layout.ELEMENT_TYPE,
+    printObject = true
+)
+public final class MulticolorLog4j2Layout extends AbstractStringLayout {
+
+    /**
+     * Serializers with colors of levels, by names of levels.
+     */
+    private final transient Map<String, AbstractStringLayout.Serializer>
+        painted;
+
+    /**
+     * Serializer for levels without colors, or for all of them,
+     * if coloring is disabled.
+     */
+    private final transient AbstractStringLayout.Serializer dull;
+
+    /**
+     * Is coloring enabled?
+     */
+    private final transient boolean coloring;
+
+    /**
+     * Ctor.
+     * @param charset The charset
+     * @param painted Serializers with colors of levels
+     * @param dull Serializer without colors
+     * @param coloring Is coloring enabled?
+     * @checkstyle ParameterNumber (4 lines)
+     */
+    private MulticolorLog4j2Layout(final Charset charset,
+        final Map<String, AbstractStringLayout.Serializer> painted,
+        final AbstractStringLayout.Serializer dull, final boolean coloring) {
+        super(charset);
+        this.painted = painted;
+        this.dull = dull;
+        this.coloring = coloring;
+    }
+
+    /**
+     * Make the layout.
+     * @param pattern Conversion pattern with {@code %color{...}}
+     * @param colors JavaScript like map of color names, or {@code null}
+     * @param levels JavaScript like map of levels, or {@code null}
+     * @param coloring Coloring mode, or {@code null} to take it from
+     *  {@code com.jcabi.log.coloring} system property
+     * @param charset The charset
+     * @param config The configuration
+     * @return The layout
+     * @checkstyle ParameterNumber (10 lines)
+     */
+    @PluginFactory
+    public static MulticolorLog4j2Layout createLayout(
+        @PluginAttribute(value = "pattern",
+            defaultString = PatternLayout.DEFAULT_CONVERSION_PATTERN)
+        final String pattern,
+        @PluginAttribute("colors") final String colors,
+        @PluginAttribute("levels") final String levels,
+        @PluginAttribute("coloring") final String coloring,
+        @PluginAttribute(value = "charset", defaultString = "UTF-8")
+        final Charset charset,
+        @PluginConfiguration final Configuration config) {
+        final Palette palette = new Palette();
+        if (colors != null) {
+            palette.colors(colors);
+        }
+        if (levels != null) {
+            palette.levels(levels);
+        }
+        palette.pattern(pattern);
+        final Map<String, AbstractStringLayout.Serializer> painted =
+            new HashMap<>(0);
+        final boolean enabled = Palette.coloring(coloring);
+        if (enabled) {
+            for (final String level : palette.names()) {
+                painted.put(
+                    level,
+                    MulticolorLog4j2Layout.serializer(
+                        config, palette.painted(level)
+                    )
+                );
+            }
+        }
+        return new MulticolorLog4j2Layout(
+            charset, painted,
+            MulticolorLog4j2Layout.serializer(config, palette.dull()),
+            enabled
+        );
+    }
+
+    @Override
+    public String toSerializable(final LogEvent event) {
+        final StringBuilder text = AbstractStringLayout.getStringBuilder();
+        this.print(event, text);
+        return text.toString();
+    }
+
+    @Override
+    public void encode(final LogEvent event,
+        final ByteBufferDestination destination) {
+        final StringBuilder text = AbstractStringLayout.getStringBuilder();
+        this.print(event, text);
+        this.getStringBuilderEncoder().encode(text, destination);
+        AbstractStringLayout.trimToMaxSize(text);
+    }
+
+    @Override
+    public boolean requiresLocation() {
+        return this.dull instanceof LocationAware
+            && ((LocationAware) this.dull).requiresLocation();
+    }
+
+    /**
+     * Print the event, removing color codes, if coloring is disabled.
+     * @param event The event
+     * @param text Where to print it
+     */
+    private void print(final LogEvent event, final StringBuilder text) {
+        if (this.coloring) {
+            this.serializer(event).toSerializable(event, text);
+        } else {
+            this.dull.toSerializable(event, text);
+            if (text.indexOf("\u001b") >= 0) {
+                final String clean = Palette.strip(text.toString());
+                text.setLength(0);
+                text.append(clean);
+            }
+        }
+    }
+
+    /**
+     * Find the serializer for the level of the event.
+     * @param event The event
+     * @return The serializer
+     */
+    private AbstractStringLayout.Serializer serializer(final LogEvent event) {
+        AbstractStringLayout.Serializer serializer = this.painted.get(
+            event.getLevel().name()
+        );
+        if (serializer == null) {
+            serializer = this.dull;
+        }
+        return serializer;
+    }
+
+    /**
+     * Make a serializer of the pattern.
+     * @param config The configuration
+     * @param pattern The pattern
+     * @return The serializer
+     */
+    private static AbstractStringLayout.Serializer serializer(
+        final Configuration config, final String pattern) {
+        return PatternLayout.newSerializerBuilder()
+            .setConfiguration(config)
+            .setPattern(pattern)
+            .setAlwaysWriteExceptions(true)
+            .build();
+    }
+}
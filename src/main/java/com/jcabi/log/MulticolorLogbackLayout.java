@@ -0,0 +1,189 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.log;
+
+import ch.qos.logback.classic.PatternLayout;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.LayoutBase;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Multi-color layout for Logback.
+ *
+ * <p>Use it in your Logback configuration:
+ *
+ * <pre> &lt;appender name="CONSOLE"
+ *   class="ch.qos.logback.core.ConsoleAppender"&gt;
+ *   &lt;encoder class="ch.qos.logback.core.encoder.LayoutWrappingEncoder"&gt;
+ *     &lt;layout class="com.jcabi.log.MulticolorLogbackLayout"&gt;
+ *       &lt;pattern&gt;[%color{%-5level}] %logger: %msg%n&lt;/pattern&gt;
+ *     &lt;/layout&gt;
+ *   &lt;/encoder&gt;
+ * &lt;/appender&gt;</pre>
+ *
+ * <p>The pattern is the same as in {@link MulticolorLayout}, including
+ * {@code %color-red{...}} and {@code %color-<attr>;<bg>;<fg>{...}},
+ * while the rest of it is a regular pattern of Logback
+ * {@link PatternLayout}. Properties {@code colors}, {@code levels} and
+ * {@code coloring} work as they do in {@link MulticolorLayout}.
+ *
+ * <p>Colors are put into the pattern when the layout is started: there is
+ * a {@link PatternLayout} for every level, so formatting an event takes no
+ * more effort than in {@link PatternLayout}. When coloring is disabled,
+ * color codes are also removed from the formatted text, including those
+ * coming with the message itself.
+ *
+ * <p>Logback is an optional dependency of jcabi-log, you have to add it
+ * to your project explicitly.
+ *
+ * @since 0.25
+ */
+public final class MulticolorLogbackLayout extends LayoutBase<ILoggingEvent> {
+
+    /**
+     * Escape character, which starts control sequences.
+     */
+    private static final String ESC = "\u001b";
+
+    /**
+     * Colors of levels and the conversion pattern.
+     */
+    private final transient Palette palette = new Palette();
+
+    /**
+     * Layouts with colors of levels, by names of levels.
+     */
+    private final transient Map<String, PatternLayout> painted =
+        new HashMap<>(0);
+
+    /**
+     * Coloring mode or {@code null} to take it from the system property.
+     */
+    private transient String mode;
+
+    /**
+     * Layout for levels without colors, or for all of them, if coloring
+     * is disabled.
+     */
+    private transient PatternLayout dull;
+
+    /**
+     * Is coloring enabled?
+     */
+    private transient boolean coloring;
+
+    /**
+     * Set the conversion pattern, with {@code %color{...}}.
+     * @param pattern The pattern
+     */
+    public void setPattern(final String pattern) {
+        this.palette.pattern(pattern);
+    }
+
+    /**
+     * Allow to overwrite or specify new ANSI color names
+     * in a javascript map like format.
+     * @param cols JavaScript like map of color names
+     */
+    public void setColors(final String cols) {
+        this.palette.colors(cols);
+    }
+
+    /**
+     * Allow to overwrite the ANSI color values for the log levels
+     * in a javascript map like format.
+     * @param lev JavaScript like map of levels
+     */
+    public void setLevels(final String lev) {
+        this.palette.levels(lev);
+    }
+
+    /**
+     * Set the coloring mode: {@code true}, {@code false} or {@code auto}.
+     * If not set, the mode is taken from {@code com.jcabi.log.coloring}
+     * system property.
+     * @param value The mode
+     */
+    public void setColoring(final String value) {
+        this.mode = value;
+    }
+
+    @Override
+    public void start() {
+        if (this.palette.ready()) {
+            this.stop();
+            this.dull = this.layout(this.palette.dull());
+            this.coloring = Palette.coloring(this.mode);
+            if (this.coloring) {
+                for (final String level : this.palette.names()) {
+                    this.painted.put(
+                        level, this.layout(this.palette.painted(level))
+                    );
+                }
+            }
+            super.start();
+        } else {
+            this.addError(
+                String.format(
+                    "No pattern set for the layout named \"%s\"",
+                    this.getClass().getName()
+                )
+            );
+        }
+    }
+
+    @Override
+    public void stop() {
+        for (final PatternLayout layout : this.painted.values()) {
+            layout.stop();
+        }
+        this.painted.clear();
+        if (this.dull != null) {
+            this.dull.stop();
+        }
+        super.stop();
+    }
+
+    @Override
+    public String doLayout(final ILoggingEvent event) {
+        final String text;
+        if (this.coloring) {
+            PatternLayout layout = this.painted.get(
+                event.getLevel().toString()
+            );
+            if (layout == null) {
+                layout = this.dull;
+            }
+            text = layout.doLayout(event);
+        } else {
+            text = Palette.strip(this.dull.doLayout(event));
+        }
+        return text;
+    }
+
+    /**
+     * Make and start a layout.
+     *
+     * <p>Logback takes the escape character as a part of the name of
+     * a conversion word right before it, that's why an empty group
+     * {@code %()} is put in front of every control sequence.
+     *
+     * @param pattern The pattern
+     * @return The layout
+     */
+    private PatternLayout layout(final String pattern) {
+        final PatternLayout layout = new PatternLayout();
+        layout.setContext(this.getContext());
+        layout.setPattern(
+            pattern.replace(
+                MulticolorLogbackLayout.ESC,
+                String.format("%%()%s", MulticolorLogbackLayout.ESC)
+            )
+        );
+        layout.start();
+        return layout;
+    }
+}
@@ -5,7 +5,6 @@
 package com.jcabi.log;
 
 import java.util.Formattable;
-import java.util.FormattableFlags;
 import java.util.Formatter;
 
 /**
@@ -26,19 +25,14 @@ final class NanoDecor implements Formattable {
     /**
      * The period to work with, in nanoseconds.
      */
-    private final transient Double nano;
+    private final transient Long nano;
 
     /**
      * Public ctor.
      * @param nan The interval in nanoseconds
      */
     NanoDecor(final Long nan) {
-        // @checkstyle ConstructorsCodeFreeCheck (5 lines)
-        if (nan == null) {
-            this.nano = null;
-        } else {
-            this.nano = Double.valueOf(nan);
-        }
+        this.nano = nan;
     }
 
     // @checkstyle ParameterNumber (4 lines)
@@ -48,55 +42,9 @@ final class NanoDecor implements Formattable {
         if (this.nano == null) {
             formatter.format("NULL");
         } else {
-            final StringBuilder format = new StringBuilder(16);
-            format.append('%');
-            if ((flags & FormattableFlags.LEFT_JUSTIFY) == FormattableFlags
-                .LEFT_JUSTIFY) {
-                format.append('-');
-            }
-            if (width > 0) {
-                format.append(width);
-            }
-            if ((flags & FormattableFlags.UPPERCASE) == FormattableFlags
-                .UPPERCASE) {
-                format.append('S');
-            } else {
-                format.append('s');
-            }
-            formatter.format(format.toString(), this.toText(precision));
-        }
-    }
-
-    /**
-     * Create text.
-     * @param precision The precision
-     * @return The text
-     */
-    private String toText(final int precision) {
-        final double number;
-        final String title;
-        if (this.nano < 1000.0) {
-            number = this.nano;
-            title = "ns";
-        } else if (this.nano < 1000L * 1000L) {
-            number = this.nano / 1000.0;
-            title = "µs";
-        } else if (this.nano < 1000L * 1000L * 1000L) {
-            number = this.nano / (1000L * 1000L);
-            title = "ms";
-        } else if (this.nano < 1000L * 1000L * 1000L * 60L) {
-            number = this.nano / (1000L * 1000L * 1000L);
-            title = "s";
-        } else {
-            number = this.nano / (1000L * 1000L * 1000L * 60L);
-            title = "min";
-        }
-        final String format;
-        if (precision >= 0) {
-            format = String.format("%%.%df%%s", precision);
-        } else {
-            format = "%.0f%s";
+            UnitScale.NANOS.format(
+                formatter, this.nano, flags, width, precision
+            );
         }
-        return String.format(format, number, title);
     }
 }
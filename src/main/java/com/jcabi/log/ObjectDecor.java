@@ -4,18 +4,52 @@
  */
 package com.jcabi.log;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
-import java.security.PrivilegedAction;
-import java.util.Arrays;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
 import java.util.Formattable;
 import java.util.Formatter;
+import java.util.IdentityHashMap;
+import java.util.Set;
 
 /**
  * Format internal structure of an object.
+ *
+ * <p>Fields of every class are found and made accessible only once,
+ * their getters are cached as {@link MethodHandle}s. Fields, which can't
+ * be made accessible (like private fields of JDK classes), are printed
+ * as {@code "?"}.
+ *
+ * <p>Arrays, including arrays of primitives, are printed element by
+ * element, nested arrays too, but no deeper than
+ * {@code com.jcabi.log.object.depth} system property says (eight levels
+ * by default). An array or an object, which contains itself, is printed
+ * only once.
+ *
  * @since 0.1
  */
 final class ObjectDecor implements Formattable {
 
+    /**
+     * Maximum depth of nested arrays and objects.
+     */
+    private static final int DEPTH =
+        Integer.getInteger("com.jcabi.log.object.depth", 8);
+
+    /**
+     * Getters of declared fields of classes.
+     */
+    private static final ClassValue<ObjectDecor.Getter[]> GETTERS =
+        new ClassValue<ObjectDecor.Getter[]>() {
+            @Override
+            protected ObjectDecor.Getter[] computeValue(final Class<?> type) {
+                return ObjectDecor.getters(type);
+            }
+        };
+
     /**
      * The object to work with.
      */
@@ -33,97 +67,284 @@ final class ObjectDecor implements Formattable {
     @Override
     public void formatTo(final Formatter formatter, final int flags,
         final int width, final int precision) {
-        if (this.object == null) {
-            formatter.format("NULL");
-        } else if (this.object.getClass().isArray()) {
-            formatter.format(
-                new ObjectDecor.ArrayFormatAction((Object[]) this.object).run()
-            );
+        if (formatter.out() instanceof StringBuilder) {
+            new ObjectDecor.Printer(formatter, (StringBuilder) formatter.out())
+                .print(this.object, 0);
         } else {
-            formatter.format(
-                new ObjectDecor.ObjectContentsFormatAction(this.object).run()
-            );
+            final StringBuilder text = new StringBuilder(64);
+            try (Formatter fmt = new Formatter(text, formatter.locale())) {
+                new ObjectDecor.Printer(fmt, text).print(this.object, 0);
+            }
+            formatter.format("%s", text);
+        }
+    }
+
+    /**
+     * Make getters of all declared fields of the class.
+     * @param type The class
+     * @return Getters
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private static ObjectDecor.Getter[] getters(final Class<?> type) {
+        final Field[] fields = type.getDeclaredFields();
+        final ObjectDecor.Getter[] getters = new ObjectDecor.Getter[
+            fields.length
+        ];
+        final MethodType common = MethodType.methodType(
+            Object.class, Object.class
+        );
+        for (int idx = 0; idx < fields.length; ++idx) {
+            final Field field = fields[idx];
+            MethodHandle handle;
+            try {
+                field.setAccessible(true);
+                handle = MethodHandles.lookup().unreflectGetter(field);
+                if (Modifier.isStatic(field.getModifiers())) {
+                    handle = MethodHandles.dropArguments(
+                        handle, 0, Object.class
+                    );
+                }
+                handle = handle.asType(common);
+            } catch (final IllegalAccessException ex) {
+                handle = null;
+                // @checkstyle IllegalCatch (1 line)
+            } catch (final RuntimeException ex) {
+                handle = null;
+            }
+            getters[idx] = new ObjectDecor.Getter(field.getName(), handle);
         }
+        return getters;
     }
 
     /**
-     * {@link PrivilegedAction} for obtaining array contents.
-     * @since 0.1
+     * Getter of a field.
+     * @since 0.25
      */
-    private static final class ArrayFormatAction
-        implements PrivilegedAction<String> {
+    private static final class Getter {
 
         /**
-         * Array to format.
+         * Name of the field.
          */
-        private final transient Object[] array;
+        private final transient String name;
 
         /**
-         * Constructor.
-         * @param arr Array to format
+         * Getter or {@code NULL} if the field is not accessible.
          */
-        ArrayFormatAction(final Object... arr) {
-            // @checkstyle ConstructorsCodeFreeCheck (1 line)
-            this.array = Arrays.copyOf(arr, arr.length);
-        }
+        private final transient MethodHandle handle;
 
-        @Override
-        public String run() {
-            final StringBuilder builder = new StringBuilder("[");
-            try (Formatter fmt = new Formatter(builder)) {
-                for (final Object obj : this.array) {
-                    new ObjectDecor(obj).formatTo(fmt, 0, 0, 0);
-                    // @checkstyle MultipleStringLiteralsCheck (1 line)
-                    builder.append(", ");
-                }
-            }
-            builder.replace(builder.length() - 2, builder.length(), "]");
-            return builder.toString();
+        /**
+         * Ctor.
+         * @param field Name of the field
+         * @param getter Getter or {@code NULL}
+         */
+        Getter(final String field, final MethodHandle getter) {
+            this.name = field;
+            this.handle = getter;
         }
     }
 
     /**
-     * {@link PrivilegedAction} for obtaining object contents.
-     * @since 0.1
+     * Printer of objects and arrays.
+     * @since 0.25
      */
-    private static final class ObjectContentsFormatAction
-        implements PrivilegedAction<String> {
+    private static final class Printer {
 
         /**
-         * Object to format.
+         * Formatter, which prints into the text.
          */
-        private final transient Object object;
+        private final transient Formatter formatter;
 
         /**
-         * Constructor.
-         * @param obj Object to format
+         * The text.
          */
-        ObjectContentsFormatAction(final Object obj) {
-            this.object = obj;
+        private final transient StringBuilder text;
+
+        /**
+         * Arrays and objects being printed now.
+         */
+        private final transient Set<Object> path;
+
+        /**
+         * Ctor.
+         * @param fmt Formatter, which prints into the text
+         * @param txt The text
+         */
+        Printer(final Formatter fmt, final StringBuilder txt) {
+            this.formatter = fmt;
+            this.text = txt;
+            this.path = Collections.newSetFromMap(new IdentityHashMap<>(4));
         }
 
-        @Override
-        public String run() {
-            final StringBuilder builder = new StringBuilder("{");
-            for (final Field field
-                : this.object.getClass().getDeclaredFields()) {
-                field.setAccessible(true);
+        /**
+         * Print an object or an array.
+         * @param obj The object
+         * @param depth How deep it is
+         */
+        void print(final Object obj, final int depth) {
+            if (obj == null) {
+                this.text.append("NULL");
+            } else if (obj.getClass().isArray()) {
+                this.array(obj, depth);
+            } else {
+                this.contents(obj, depth);
+            }
+        }
+
+        /**
+         * Print fields of an object.
+         * @param obj The object
+         * @param depth How deep it is
+         */
+        private void contents(final Object obj, final int depth) {
+            if (depth > ObjectDecor.DEPTH) {
+                this.text.append("{...}");
+            } else if (this.path.add(obj)) {
+                this.text.append('{');
+                boolean first = true;
+                for (final ObjectDecor.Getter getter
+                    : ObjectDecor.GETTERS.get(obj.getClass())) {
+                    if (!first) {
+                        this.text.append(", ");
+                    }
+                    first = false;
+                    this.text.append(getter.name).append(": ");
+                    this.field(getter, obj, depth);
+                }
+                this.text.append('}');
+                this.path.remove(obj);
+            } else {
+                this.text.append("{CIRCULAR REFERENCE}");
+            }
+        }
+
+        /**
+         * Print value of a field.
+         * @param getter Getter of the field
+         * @param obj The object
+         * @param depth How deep the object is
+         */
+        @SuppressWarnings("PMD.AvoidCatchingThrowable")
+        private void field(final ObjectDecor.Getter getter, final Object obj,
+            final int depth) {
+            if (getter.handle == null) {
+                this.text.append("?");
+            } else {
+                final Object value;
                 try {
-                    builder.append(
-                        String.format(
-                            "%s: \"%s\"",
-                            field.getName(),
-                            field.get(this.object)
-                        )
-                    );
-                } catch (final IllegalAccessException ex) {
+                    value = (Object) getter.handle.invokeExact(obj);
+                    // @checkstyle IllegalCatch (1 line)
+                } catch (final Throwable ex) {
                     throw new IllegalStateException(ex);
                 }
-                // @checkstyle MultipleStringLiteralsCheck (1 line)
-                builder.append(", ");
+                if (value != null && value.getClass().isArray()) {
+                    this.array(value, depth + 1);
+                } else {
+                    this.text.append('"');
+                    if (value instanceof Formattable) {
+                        ((Formattable) value).formatTo(
+                            this.formatter, 0, -1, -1
+                        );
+                    } else {
+                        this.text.append(value);
+                    }
+                    this.text.append('"');
+                }
+            }
+        }
+
+        /**
+         * Print elements of an array.
+         * @param array The array
+         * @param depth How deep it is
+         */
+        private void array(final Object array, final int depth) {
+            if (depth > ObjectDecor.DEPTH) {
+                this.text.append("[...]");
+            } else if (this.path.add(array)) {
+                this.text.append('[');
+                if (array instanceof Object[]) {
+                    final Object[] items = (Object[]) array;
+                    for (int idx = 0; idx < items.length; ++idx) {
+                        this.comma(idx);
+                        this.print(items[idx], depth + 1);
+                    }
+                } else {
+                    this.primitives(array);
+                }
+                this.text.append(']');
+                this.path.remove(array);
+            } else {
+                this.text.append("[CIRCULAR REFERENCE]");
+            }
+        }
+
+        /**
+         * Print elements of an array of primitives, without boxing.
+         * @param array The array
+         * @checkstyle CyclomaticComplexity (60 lines)
+         * @checkstyle ExecutableStatementCount (60 lines)
+         */
+        @SuppressWarnings({"PMD.CognitiveComplexity", "PMD.NPathComplexity"})
+        private void primitives(final Object array) {
+            if (array instanceof int[]) {
+                final int[] items = (int[]) array;
+                for (int idx = 0; idx < items.length; ++idx) {
+                    this.comma(idx);
+                    this.text.append(items[idx]);
+                }
+            } else if (array instanceof long[]) {
+                final long[] items = (long[]) array;
+                for (int idx = 0; idx < items.length; ++idx) {
+                    this.comma(idx);
+                    this.text.append(items[idx]);
+                }
+            } else if (array instanceof byte[]) {
+                final byte[] items = (byte[]) array;
+                for (int idx = 0; idx < items.length; ++idx) {
+                    this.comma(idx);
+                    this.text.append(items[idx]);
+                }
+            } else if (array instanceof char[]) {
+                final char[] items = (char[]) array;
+                for (int idx = 0; idx < items.length; ++idx) {
+                    this.comma(idx);
+                    this.text.append(items[idx]);
+                }
+            } else if (array instanceof double[]) {
+                final double[] items = (double[]) array;
+                for (int idx = 0; idx < items.length; ++idx) {
+                    this.comma(idx);
+                    this.text.append(items[idx]);
+                }
+            } else if (array instanceof float[]) {
+                final float[] items = (float[]) array;
+                for (int idx = 0; idx < items.length; ++idx) {
+                    this.comma(idx);
+                    this.text.append(items[idx]);
+                }
+            } else if (array instanceof short[]) {
+                final short[] items = (short[]) array;
+                for (int idx = 0; idx < items.length; ++idx) {
+                    this.comma(idx);
+                    this.text.append(items[idx]);
+                }
+            } else {
+                final boolean[] items = (boolean[]) array;
+                for (int idx = 0; idx < items.length; ++idx) {
+                    this.comma(idx);
+                    this.text.append(items[idx]);
+                }
+            }
+        }
+
+        /**
+         * Print a comma before all elements but the first one.
+         * @param idx Position of the element
+         */
+        private void comma(final int idx) {
+            if (idx > 0) {
+                this.text.append(", ");
             }
-            builder.replace(builder.length() - 2, builder.length(), "}");
-            return builder.toString();
         }
     }
 }
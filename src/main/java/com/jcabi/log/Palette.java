@@ -0,0 +1,230 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.log;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Colors of a multi-color layout.
+ *
+ * <p>It turns a conversion pattern with {@code %color{...}} into
+ * a pattern for every level, with the color of the level already there,
+ * and into a pattern without any colors. It doesn't depend on any logging
+ * framework, so that {@link MulticolorLayout},
+ * {@link MulticolorLogbackLayout} and {@link MulticolorLog4j2Layout}
+ * could share it.
+ *
+ * <p>The class is NOT thread-safe, it's supposed to be configured first
+ * and used later.
+ *
+ * @since 0.25
+ */
+final class Palette {
+
+    /**
+     * Name of the property that is used to disable log coloring.
+     */
+    private static final String COLORING = "com.jcabi.log.coloring";
+
+    /**
+     * Control sequence indicator, as {@link ConversionPattern} escapes it
+     * for LOG4J.
+     */
+    private static final String ESCAPED = "\u001b\\[";
+
+    /**
+     * Control sequence indicator.
+     */
+    private static final String CSI = "\u001b[";
+
+    /**
+     * Color codes, to be removed from a text without colors.
+     */
+    private static final Pattern CODES = Pattern.compile(
+        "\u001b\\[([0-9]*|\\?)m"
+    );
+
+    /**
+     * Names of levels known to all frameworks.
+     */
+    private static final Set<String> LEVELS = new HashSet<>(
+        Arrays.asList(
+            "ALL", "TRACE", "DEBUG", "INFO", "WARN", "ERROR", "FATAL", "OFF"
+        )
+    );
+
+    /**
+     * Colors of levels.
+     */
+    private final transient Map<String, String> levels;
+
+    /**
+     * Color human readable data.
+     */
+    private final transient Colors colors;
+
+    /**
+     * Original conversion pattern or {@code null} if not set yet.
+     */
+    private transient String base;
+
+    /**
+     * Generated conversion pattern, with placeholders for colors of levels.
+     */
+    private transient String generated;
+
+    /**
+     * Ctor.
+     */
+    Palette() {
+        this.levels = Palette.defaults();
+        this.colors = new Colors();
+    }
+
+    /**
+     * Set the conversion pattern.
+     *
+     * <p>Control sequences in the result are not escaped, since not every
+     * logging framework unescapes them.
+     *
+     * @param pattern The pattern with {@code %color{...}}
+     */
+    void pattern(final String pattern) {
+        this.base = pattern;
+        this.generated = new ConversionPattern(pattern, this.colors)
+            .generate()
+            .replace(Palette.ESCAPED, Palette.CSI);
+    }
+
+    /**
+     * The pattern with placeholders for colors of levels.
+     * @return Conversion pattern
+     */
+    String generated() {
+        return this.generated;
+    }
+
+    /**
+     * Add or overwrite colors, in a javascript map like format.
+     * @param cols JavaScript like map of color names
+     */
+    void colors(final String cols) {
+        final Map<String, String> parsed = new ParseableInformation(
+            cols
+        ).information();
+        for (final Map.Entry<String, String> entry : parsed.entrySet()) {
+            this.colors.addColor(entry.getKey(), entry.getValue());
+        }
+        if (this.base != null) {
+            this.pattern(this.base);
+        }
+    }
+
+    /**
+     * Overwrite colors of levels, in a javascript map like format.
+     * @param lev JavaScript like map of levels
+     */
+    void levels(final String lev) {
+        this.levels.putAll(new ParseableLevelInformation(lev).information());
+    }
+
+    /**
+     * Is the conversion pattern set?
+     * @return TRUE if it is
+     */
+    boolean ready() {
+        return this.base != null;
+    }
+
+    /**
+     * Names of levels with colors.
+     * @return Names
+     */
+    Set<String> names() {
+        return Collections.unmodifiableSet(this.levels.keySet());
+    }
+
+    /**
+     * The pattern with the color of the level.
+     * @param level Name of the level
+     * @return Conversion pattern
+     */
+    String painted(final String level) {
+        return new ColorfullyFormatted(
+            this.generated, this.levels.get(level)
+        ).format();
+    }
+
+    /**
+     * The pattern without colors.
+     * @return Conversion pattern
+     */
+    String dull() {
+        return new DullyFormatted(this.generated).format();
+    }
+
+    /**
+     * Remove color codes from the text, if there are any.
+     * @param text The text, formatted with {@link #dull()}
+     * @return The text without color codes
+     */
+    static String strip(final String text) {
+        String clean = text;
+        if (text.indexOf('\u001b') >= 0) {
+            clean = Palette.CODES.matcher(text).replaceAll("");
+        }
+        return clean;
+    }
+
+    /**
+     * Is it a known level?
+     * @param level Name of the level, in upper case
+     * @return TRUE if it's known
+     */
+    static boolean known(final String level) {
+        return Palette.LEVELS.contains(level);
+    }
+
+    /**
+     * Should the logged text be colored or not.
+     * @param mode Coloring mode ({@code true}, {@code false} or
+     *  {@code auto}), or {@code null} to take it from the system property
+     * @return True if the coloring is enabled, or false otherwise
+     */
+    static boolean coloring(final String mode) {
+        String option = mode;
+        if (option == null) {
+            option = System.getProperty(Palette.COLORING);
+        }
+        final boolean enabled;
+        if ("auto".equals(option)) {
+            enabled = System.console() != null;
+        } else {
+            enabled = !"false".equals(option);
+        }
+        return enabled;
+    }
+
+    /**
+     * Default colors of levels.
+     * @return Map of levels
+     */
+    private static Map<String, String> defaults() {
+        final Map<String, String> map = new LinkedHashMap<>(8);
+        map.put("TRACE", "2;33");
+        map.put("DEBUG", "2;37");
+        map.put("INFO", "0;37");
+        map.put("WARN", "0;33");
+        map.put("ERROR", "0;31");
+        map.put("FATAL", "0;35");
+        return map;
+    }
+}
@@ -7,7 +7,6 @@ package com.jcabi.log;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
-import org.apache.log4j.Level;
 
 /**
  * Parse information like {@code ParseInformation} does, but increments with
@@ -40,7 +39,7 @@ class ParseableLevelInformation {
         final Map<String, String> converted = new HashMap<>(0);
         for (final Map.Entry<String, String> entry : parsed.entrySet()) {
             final String level = entry.getKey().toUpperCase(Locale.ENGLISH);
-            if (Level.toLevel(level, null) == null) {
+            if (!Palette.known(level)) {
                 throw new IllegalStateException(
                     String.format(Locale.ENGLISH, "Unknown level '%s'", level)
                 );
@@ -4,31 +4,24 @@
  */
 package com.jcabi.log;
 
-import java.util.Arrays;
-import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
 /**
  * Processor of formatting string and arguments, before sending it to
  * {@link String#format(String,Object[])}.
+ *
+ * <p>Formatting strings are compiled into {@link FormatPlan}s only once
+ * and kept in a bounded cache, since the same literal formats are logged
+ * over and over again. The size of the cache can be changed with the
+ * {@code com.jcabi.log.formats} system property (1024 by default).
+ *
  * @since 0.1
  */
 final class PreFormatter {
 
     /**
-     * Pattern used for matching format string arguments.
+     * Compiled formatting strings.
      */
-    private static final Pattern PATTERN = Pattern.compile(
-        "%(\\d+\\$)?(\\[([A-Za-z\\-.0-9]+)])?[+\\-]?(?:\\d*(?:\\.\\d+)?)?[a-zA-Z%]"
-    );
-
-    /**
-     * List of no argument specifier.
-     */
-    private static final List<String> NO_ARG_SPECIFIERS =
-        Arrays.asList("%n", "%%");
+    private static final BoundedCache<String, FormatPlan> PLANS =
+        new BoundedCache<>(Integer.getInteger("com.jcabi.log.formats", 1024));
 
     /**
      * The formatting string.
@@ -38,14 +31,14 @@ final class PreFormatter {
     /**
      * List of arguments.
      */
-    private final transient List<Object> arguments;
+    private final transient Object[] arguments;
 
     /**
      * Private ctor.
      * @param fmt The pre-computed format string
-     * @param args The pre-computed argument list
+     * @param args The pre-computed arguments
      */
-    private PreFormatter(final String fmt, final List<Object> args) {
+    private PreFormatter(final String fmt, final Object... args) {
         this.format = fmt;
         this.arguments = args;
     }
@@ -57,21 +50,25 @@ final class PreFormatter {
      * @return Newly built pre-formatter
      */
     static PreFormatter create(final String fmt, final Object... args) {
-        final List<Object> result = new CopyOnWriteArrayList<>();
-        final StringBuffer buf = new StringBuffer(fmt.length());
-        final Matcher matcher = PreFormatter.PATTERN.matcher(fmt);
-        final int pos = PreFormatter.getPos(args, matcher, buf, result);
-        if (pos < args.length) {
-            throw new IllegalArgumentException(
-                String.format(
-                    "There are %d parameter(s) but only %d format argument(s) were provided.",
-                    args.length,
-                    pos
-                )
-            );
-        }
-        matcher.appendTail(buf);
-        return new PreFormatter(buf.toString(), result);
+        final FormatPlan plan = PreFormatter.plan(fmt);
+        return new PreFormatter(plan.format(), plan.arguments(args));
+    }
+
+    /**
+     * Get compiled formatting string, from the cache if possible.
+     * @param fmt The formatting string
+     * @return The plan
+     */
+    static FormatPlan plan(final String fmt) {
+        return PreFormatter.PLANS.get(fmt, FormatPlan::compile);
+    }
+
+    /**
+     * Get the cache of compiled formatting strings.
+     * @return The cache, with its hit and miss counters
+     */
+    static BoundedCache<String, FormatPlan> plans() {
+        return PreFormatter.PLANS;
     }
 
     /**
@@ -87,56 +84,6 @@ final class PreFormatter {
      * @return The list of arguments
      */
     Object[] getArguments() {
-        return this.arguments.toArray(new Object[0]);
-    }
-
-    /**
-     * Build the position-based replacement state for the given format and args.
-     * @param args The list of arguments
-     * @param matcher The matcher that finds matches
-     * @param buf The string buffer
-     * @param into Destination list to fill with arguments
-     * @return The result position
-     * @checkstyle ExecutableStatementCountCheck (100 lines)
-     * @checkstyle ParameterNumberCheck (5 lines)
-     */
-    private static int getPos(final Object[] args, final Matcher matcher,
-        final StringBuffer buf, final List<Object> into) {
-        int pos = 0;
-        while (matcher.find()) {
-            final String group = matcher.group();
-            if (PreFormatter.NO_ARG_SPECIFIERS.contains(group)) {
-                matcher.appendReplacement(
-                    buf, Matcher.quoteReplacement(group)
-                );
-            } else {
-                final String decor = matcher.group(3);
-                if (matcher.group(1) != null) {
-                    matcher.appendReplacement(
-                        buf, Matcher.quoteReplacement(group)
-                    );
-                    --pos;
-                } else if (decor == null) {
-                    matcher.appendReplacement(
-                        buf, Matcher.quoteReplacement(group)
-                    );
-                    into.add(args[pos]);
-                } else {
-                    matcher.appendReplacement(
-                        buf,
-                        Matcher.quoteReplacement(
-                            group.replace(matcher.group(2), "")
-                        )
-                    );
-                    try {
-                        into.add(DecorsManager.decor(decor, args[pos]));
-                    } catch (final DecorException ex) {
-                        into.add(String.format("[%s]", ex.getMessage()));
-                    }
-                }
-                ++pos;
-            }
-        }
-        return pos;
+        return this.arguments.clone();
     }
 }
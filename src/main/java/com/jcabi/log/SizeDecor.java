@@ -5,10 +5,7 @@
 package com.jcabi.log;
 
 import java.util.Formattable;
-import java.util.FormattableFlags;
 import java.util.Formatter;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 /**
  * Size decorator.
@@ -16,32 +13,11 @@ import java.util.concurrent.ConcurrentMap;
  */
 final class SizeDecor implements Formattable {
 
-    /**
-     * Highest power supported by this SizeDecor.
-     */
-    private static final int MAX_POWER = 6;
-
-    /**
-     * Map of prefixes for powers of 1024.
-     */
-    private static final ConcurrentMap<Integer, String> SUFFIXES =
-        new ConcurrentHashMap<>(0);
-
     /**
      * The size to work with.
      */
     private final transient Long size;
 
-    static {
-        SizeDecor.SUFFIXES.put(0, "b");
-        SizeDecor.SUFFIXES.put(1, "Kb");
-        SizeDecor.SUFFIXES.put(2, "Mb");
-        SizeDecor.SUFFIXES.put(3, "Gb");
-        SizeDecor.SUFFIXES.put(4, "Tb");
-        SizeDecor.SUFFIXES.put(5, "Pb");
-        SizeDecor.SUFFIXES.put(6, "Eb");
-    }
-
     /**
      * Public ctor.
      * @param sze The size
@@ -57,44 +33,9 @@ final class SizeDecor implements Formattable {
         if (this.size == null) {
             formatter.format("NULL");
         } else {
-            final StringBuilder format = new StringBuilder().append('%');
-            if ((flags & FormattableFlags.LEFT_JUSTIFY) == FormattableFlags
-                .LEFT_JUSTIFY) {
-                format.append('-');
-            }
-            if (width > 0) {
-                format.append(width);
-            }
-            if ((flags & FormattableFlags.UPPERCASE) == FormattableFlags
-                .UPPERCASE) {
-                format.append('S');
-            } else {
-                format.append('s');
-            }
-            formatter.format(
-                format.toString(), this.formatSizeWithSuffix(precision)
+            UnitScale.BYTES.format(
+                formatter, this.size, flags, width, precision
             );
         }
     }
-
-    /**
-     * Format the size, with suffix.
-     * @param precision The precision to use
-     * @return The formatted size
-     */
-    private String formatSizeWithSuffix(final int precision) {
-        int power = 0;
-        double number = this.size;
-        while (number / 1024.0 >= 1.0 && power < SizeDecor.MAX_POWER) {
-            number /= 1024.0;
-            power += 1;
-        }
-        final String format;
-        if (precision >= 0) {
-            format = String.format("%%.%df%%s", precision);
-        } else {
-            format = "%.0f%s";
-        }
-        return String.format(format, number, SizeDecor.SUFFIXES.get(power));
-    }
 }
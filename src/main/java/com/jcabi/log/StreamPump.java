@@ -0,0 +1,440 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.log;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Pump of {@code stdout} and {@code stderr} streams of many
+ * {@link VerboseProcess}es, in a few shared threads.
+ *
+ * <p>By default, every {@link VerboseProcess} reads its streams in two
+ * threads of its own, which are blocked most of the time. With a pump,
+ * one or more threads (made by {@link VerboseThreads}) go round all
+ * streams registered, read what is available in each of them without
+ * blocking, log and save lines, and move on to the next one:
+ *
+ * <pre> try (StreamPump pump = new StreamPump(2).start()) {
+ *   for (ProcessBuilder builder : builders) {
+ *     results.add(
+ *       new VerboseProcess(builder, Level.INFO, Level.WARNING, pump)
+ *     );
+ *   }
+ *   // ...
+ * }</pre>
+ *
+ * <p>Pipes of a process are not selectable channels in Java, that's why
+ * the pump asks every stream how many bytes are available and never
+ * waits for more. When the process is over and nothing is available,
+ * the rest of its stream is read till the end in a separate daemon
+ * thread, since the read may block: a child of the process may still
+ * hold the pipe open. When there is nothing to read in all streams,
+ * threads of the pump park for a while, no longer than 10ms.
+ *
+ * <p>Streams registered in the pump may be seen in {@link #streams()},
+ * the total amount of bytes read in {@link #bytes()}. {@link #close()}
+ * stops the threads and releases everybody waiting for the streams
+ * still registered, except those being read till the end, which are
+ * released when their reading is over.
+ *
+ * <p>The class is thread-safe.
+ *
+ * @since 0.25
+ */
+public final class StreamPump implements Closeable {
+
+    /**
+     * Longest pause of an idle thread, in nanos.
+     */
+    private static final long PAUSE = TimeUnit.MILLISECONDS.toNanos(10L);
+
+    /**
+     * Streams to pump.
+     */
+    private final transient Queue<StreamPump.Source> sources;
+
+    /**
+     * Number of threads.
+     */
+    private final transient int total;
+
+    /**
+     * Threads.
+     */
+    private final transient ExecutorService threads;
+
+    /**
+     * Threads, which read streams of finished processes till the end.
+     */
+    private final transient ExecutorService tails;
+
+    /**
+     * Number of streams registered.
+     */
+    private final transient AtomicInteger active;
+
+    /**
+     * Total number of bytes read.
+     */
+    private final transient LongAdder read;
+
+    /**
+     * Are threads running?
+     */
+    private transient volatile boolean running;
+
+    /**
+     * Ctor, with one thread.
+     */
+    public StreamPump() {
+        this(1);
+    }
+
+    /**
+     * Ctor.
+     * @param count How many threads to run
+     */
+    public StreamPump(final int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException(
+                "At least one thread is required"
+            );
+        }
+        this.sources = new ConcurrentLinkedQueue<>();
+        this.total = count;
+        this.threads = Executors.newFixedThreadPool(
+            count,
+            new VerboseThreads("jcabi-pump", true, Thread.NORM_PRIORITY)
+        );
+        this.tails = Executors.newCachedThreadPool(
+            new VerboseThreads("jcabi-pump-tail", true, Thread.NORM_PRIORITY)
+        );
+        this.active = new AtomicInteger();
+        this.read = new LongAdder();
+    }
+
+    /**
+     * Start threads.
+     * @return This instance
+     */
+    public StreamPump start() {
+        if (this.running) {
+            throw new IllegalStateException("The pump can't be started twice");
+        }
+        this.running = true;
+        for (int idx = 0; idx < this.total; ++idx) {
+            this.threads.execute(this::pump);
+        }
+        return this;
+    }
+
+    /**
+     * How many threads the pump runs.
+     * @return Number of threads
+     */
+    public int threads() {
+        return this.total;
+    }
+
+    /**
+     * How many streams are being pumped now.
+     * @return Number of streams
+     */
+    public int streams() {
+        return this.active.get();
+    }
+
+    /**
+     * How many bytes were read from all streams.
+     * @return Total number of bytes
+     */
+    public long bytes() {
+        return this.read.sum();
+    }
+
+    @Override
+    public String toString() {
+        return Logger.format(
+            "%d thread(s), %d stream(s), %[size]s read",
+            this.threads(), this.streams(), this.bytes()
+        );
+    }
+
+    @Override
+    public void close() {
+        this.running = false;
+        this.threads.shutdown();
+        try {
+            this.threads.awaitTermination(1L, TimeUnit.MINUTES);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        } finally {
+            this.tails.shutdown();
+        }
+        while (true) {
+            final StreamPump.Source source = this.sources.poll();
+            if (source == null) {
+                break;
+            }
+            this.finish(source);
+        }
+    }
+
+    /**
+     * Register a stream of a process.
+     * @param input The stream
+     * @param process The process
+     * @param sink Where to push bytes read
+     * @param done Latch to count down when the stream is over
+     * @return Future, which may be cancelled to stop pumping the stream
+     * @checkstyle ParameterNumber (3 lines)
+     */
+    Future<?> register(final InputStream input, final Process process,
+        final LineSplitter sink, final CountDownLatch done) {
+        if (!this.running) {
+            throw new IllegalStateException("The pump is not started");
+        }
+        final StreamPump.Source source = new StreamPump.Source(
+            input, process, sink, done
+        );
+        this.active.incrementAndGet();
+        this.sources.offer(source);
+        return source.future;
+    }
+
+    /**
+     * Go round the streams and read them, until closed.
+     */
+    private void pump() {
+        final byte[] buffer = new byte[8192];
+        long pause = 1L;
+        while (this.running) {
+            boolean busy = false;
+            for (int idx = this.sources.size(); idx > 0; --idx) {
+                final StreamPump.Source source = this.sources.poll();
+                if (source == null) {
+                    break;
+                }
+                final int len = source.read(buffer);
+                if (len == StreamPump.Source.TAIL) {
+                    this.tail(source);
+                } else if (len < 0) {
+                    this.finish(source);
+                } else {
+                    if (len > 0) {
+                        this.read.add(len);
+                        busy = true;
+                    }
+                    this.sources.offer(source);
+                }
+            }
+            if (busy) {
+                pause = 1L;
+            } else {
+                LockSupport.parkNanos(pause);
+                pause = Math.min(pause << 1, StreamPump.PAUSE);
+            }
+        }
+    }
+
+    /**
+     * Read the rest of the stream of a finished process in a thread of
+     * its own, since it may block. If the pump is being closed and takes
+     * no more tasks, the stream is released right away.
+     * @param source The stream
+     */
+    private void tail(final StreamPump.Source source) {
+        try {
+            this.tails.execute(
+                () -> {
+                    final byte[] buffer = new byte[8192];
+                    while (true) {
+                        final int len = source.rest(buffer);
+                        if (len < 0) {
+                            break;
+                        }
+                        this.read.add(len);
+                    }
+                    this.finish(source);
+                }
+            );
+        } catch (final RejectedExecutionException ex) {
+            this.finish(source);
+        }
+    }
+
+    /**
+     * The stream is over.
+     * @param source The stream
+     */
+    private void finish(final StreamPump.Source source) {
+        this.active.decrementAndGet();
+        source.finish();
+    }
+
+    /**
+     * Stream of a process.
+     * @since 0.25
+     */
+    private static final class Source {
+
+        /**
+         * Returned by {@link #read(byte[])}, when the process is over,
+         * but there is nothing available in the stream yet.
+         */
+        static final int TAIL = -2;
+
+        /**
+         * The stream.
+         */
+        private final transient InputStream input;
+
+        /**
+         * The process.
+         */
+        private final transient Process process;
+
+        /**
+         * Where to push bytes read.
+         */
+        private final transient LineSplitter sink;
+
+        /**
+         * Latch to count down when done.
+         */
+        private final transient CountDownLatch done;
+
+        /**
+         * Future, which is completed when done, or cancelled from outside.
+         */
+        private final transient CompletableFuture<Void> future;
+
+        /**
+         * Ctor.
+         * @param inp The stream
+         * @param prc The process
+         * @param snk Where to push bytes read
+         * @param latch Latch to count down when done
+         * @checkstyle ParameterNumber (3 lines)
+         */
+        Source(final InputStream inp, final Process prc,
+            final LineSplitter snk, final CountDownLatch latch) {
+            this.input = inp;
+            this.process = prc;
+            this.sink = snk;
+            this.done = latch;
+            this.future = new CompletableFuture<>();
+        }
+
+        /**
+         * Read what is available and push it into the sink, never waiting.
+         * @param buffer Buffer to read into
+         * @return How many bytes were read, -1 if the stream is over,
+         *  or {@link #TAIL} if the rest of it must be read with waiting
+         */
+        int read(final byte[] buffer) {
+            return this.push(buffer, false);
+        }
+
+        /**
+         * Read the next chunk of the stream, waiting for it, and push it
+         * into the sink.
+         * @param buffer Buffer to read into
+         * @return How many bytes were read, or -1 if the stream is over
+         */
+        int rest(final byte[] buffer) {
+            return this.push(buffer, true);
+        }
+
+        /**
+         * Push the rest of the line into the sink and release those waiting.
+         */
+        void finish() {
+            try {
+                this.sink.finish();
+            } catch (final IOException ex) {
+                Logger.error(
+                    VerboseProcess.class,
+                    "Error saving process stream: %[exception]s",
+                    ex
+                );
+            } finally {
+                this.done.countDown();
+                this.future.complete(null);
+            }
+        }
+
+        /**
+         * Read a chunk of the stream and push it into the sink.
+         * @param buffer Buffer to read into
+         * @param wait Wait for the chunk, if nothing is available?
+         * @return How many bytes were read, -1 if the stream is over,
+         *  or {@link #TAIL} if it's not over, but can't be read without
+         *  waiting
+         */
+        private int push(final byte[] buffer, final boolean wait) {
+            int len = -1;
+            if (!this.future.isDone()) {
+                try {
+                    len = this.chunk(buffer, wait);
+                    if (len > 0) {
+                        this.sink.accept(buffer, len);
+                    }
+                } catch (final IOException ex) {
+                    if (!this.future.isDone()) {
+                        Logger.error(
+                            VerboseProcess.class,
+                            "Error reading from process stream: %[exception]s",
+                            ex
+                        );
+                    }
+                    len = -1;
+                }
+            }
+            return len;
+        }
+
+        /**
+         * Read a chunk of the stream.
+         * @param buffer Buffer to read into
+         * @param wait Wait for the chunk, if nothing is available?
+         * @return How many bytes were read, -1 if the stream is over,
+         *  or {@link #TAIL} if it can't be read without waiting
+         * @throws IOException If fails
+         */
+        private int chunk(final byte[] buffer, final boolean wait)
+            throws IOException {
+            final int available = this.input.available();
+            final int len;
+            if (available > 0) {
+                len = this.input.read(
+                    buffer, 0, Math.min(available, buffer.length)
+                );
+            } else if (wait) {
+                len = this.input.read(buffer);
+            } else if (this.process.isAlive()) {
+                len = 0;
+            } else {
+                len = StreamPump.Source.TAIL;
+            }
+            return len;
+        }
+    }
+}
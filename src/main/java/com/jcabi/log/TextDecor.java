@@ -16,6 +16,10 @@ import java.util.Formatter;
  *   Logger.debug("Long input '%[text]s' provided", input);
  * }</pre>
  *
+ * <p>Texts longer than 100 characters (or the precision, for example
+ * {@code "%[text].500s"}) lose their middle part. Line breaks are escaped.
+ * A {@link CharSequence} is read directly, without making a string.
+ *
  * @since 0.1.5
  */
 final class TextDecor implements Formattable {
@@ -45,30 +49,93 @@ final class TextDecor implements Formattable {
         if (this.object == null) {
             formatter.format("NULL");
         } else {
-            formatter.format("%s", TextDecor.pretty(this.object.toString()));
+            final CharSequence text;
+            if (this.object instanceof CharSequence) {
+                text = (CharSequence) this.object;
+            } else {
+                text = this.object.toString();
+            }
+            int max = TextDecor.MAX;
+            if (precision > 0) {
+                max = precision;
+            }
+            if (formatter.out() instanceof StringBuilder) {
+                TextDecor.pretty(text, max, (StringBuilder) formatter.out());
+            } else {
+                final StringBuilder output = new StringBuilder(max + 16);
+                TextDecor.pretty(text, max, output);
+                formatter.format("%s", output);
+            }
         }
     }
 
     /**
-     * Make it look pretty.
+     * Make it look pretty: cut the middle out, if it's too long, and
+     * escape line breaks.
      * @param text The text to prettify
-     * @return The result
+     * @param max Maximum length to show, before escaping
+     * @param output Where to print it
      */
-    @SuppressWarnings("PMD.ConsecutiveAppendsShouldReuse")
-    private static String pretty(final String text) {
-        final String result;
-        if (text.length() < TextDecor.MAX) {
-            result = text;
+    private static void pretty(final CharSequence text, final int max,
+        final StringBuilder output) {
+        final int len = text.length();
+        if (len < max) {
+            TextDecor.escape(text, 0, len, output);
         } else {
-            final int skip = text.length() - TextDecor.MAX;
-            final StringBuilder output = new StringBuilder(text.length());
-            output.append(text.substring(0, (text.length() - skip) / 2));
+            final int skip = len - max;
+            final int head = max / 2;
+            TextDecor.escape(text, 0, head, output);
+            final int marker = output.length();
             output.append("..").append(skip).append("..");
-            output.append(
-                text.substring(text.length() - TextDecor.MAX + output.length())
+            TextDecor.escape(
+                text,
+                Math.min(len, len - max + head + output.length() - marker),
+                len,
+                output
             );
-            result = output.toString();
         }
-        return result.replace(String.format("%n"), "\\n");
+    }
+
+    /**
+     * Copy characters, replacing line separators with {@code \n}.
+     * @param text The text
+     * @param from Position of the first character
+     * @param till Position after the last character
+     * @param output Where to copy
+     */
+    private static void escape(final CharSequence text, final int from,
+        final int till, final StringBuilder output) {
+        final String eol = System.lineSeparator();
+        final int size = eol.length();
+        int pos = from;
+        while (pos < till) {
+            if (text.charAt(pos) == eol.charAt(0) && pos + size <= till
+                && TextDecor.matches(text, pos, eol)) {
+                output.append("\\n");
+                pos += size;
+            } else {
+                output.append(text.charAt(pos));
+                ++pos;
+            }
+        }
+    }
+
+    /**
+     * Does the text have the line separator at this position?
+     * @param text The text
+     * @param pos The position
+     * @param eol The line separator
+     * @return TRUE if it does
+     */
+    private static boolean matches(final CharSequence text, final int pos,
+        final String eol) {
+        boolean same = true;
+        for (int idx = 1; idx < eol.length(); ++idx) {
+            if (text.charAt(pos + idx) != eol.charAt(idx)) {
+                same = false;
+                break;
+            }
+        }
+        return same;
     }
 }
@@ -0,0 +1,265 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.log;
+
+import java.text.DecimalFormatSymbols;
+import java.util.FormattableFlags;
+import java.util.Formatter;
+import java.util.Locale;
+
+/**
+ * Table of units, which prints a number in the largest unit it reaches.
+ *
+ * <p>The number is divided by the divisor of the unit with fixed-point
+ * arithmetic on {@code long}, rounded {@code HALF_UP} like {@code %f} does,
+ * and printed, together with the suffix, into a buffer, which is reused by
+ * the thread. The decimal separator and the zero digit are taken from the
+ * default locale, as {@link String#format(String, Object...)} would do.
+ * When the precision is too big or the arithmetic overflows, the number is
+ * printed by {@link String#format(String, Object...)} as a {@code double}.
+ *
+ * <p>The class is immutable and thread-safe.
+ *
+ * @since 0.25
+ */
+final class UnitScale {
+
+    /**
+     * Time in milliseconds.
+     */
+    static final UnitScale MILLIS = new UnitScale(
+        new long[] {
+            1L, 1000L, 1000L * 60L, 1000L * 60L * 60L,
+            1000L * 60L * 60L * 24L, 1000L * 60L * 60L * 24L * 30L,
+        },
+        "ms", "s", "min", "hr", "days", "mon"
+    );
+
+    /**
+     * Time in nanoseconds.
+     */
+    static final UnitScale NANOS = new UnitScale(
+        new long[] {
+            1L, 1000L, 1000L * 1000L, 1000L * 1000L * 1000L,
+            1000L * 1000L * 1000L * 60L,
+        },
+        "ns", "µs", "ms", "s", "min"
+    );
+
+    /**
+     * Size in bytes.
+     */
+    static final UnitScale BYTES = new UnitScale(
+        new long[] {
+            1L, 1L << 10, 1L << 20, 1L << 30, 1L << 40, 1L << 50, 1L << 60,
+        },
+        "b", "Kb", "Mb", "Gb", "Tb", "Pb", "Eb"
+    );
+
+    /**
+     * Powers of ten, which fit into {@code long}.
+     */
+    private static final long[] TENS = UnitScale.tens();
+
+    /**
+     * Buffers of threads.
+     */
+    private static final ThreadLocal<UnitScale.Scratch> SCRATCH =
+        ThreadLocal.withInitial(UnitScale.Scratch::new);
+
+    /**
+     * Divisors of units, in ascending order.
+     */
+    private final transient long[] divisors;
+
+    /**
+     * Suffixes of units.
+     */
+    private final transient String[] suffixes;
+
+    /**
+     * Ctor.
+     * @param dvs Divisors of units, in ascending order
+     * @param sfx Suffixes of units
+     */
+    private UnitScale(final long[] dvs, final String... sfx) {
+        this.divisors = dvs;
+        this.suffixes = sfx;
+    }
+
+    /**
+     * Print the number, as a {@link java.util.Formattable} would do.
+     * @param formatter The formatter to print to
+     * @param value The number, in the smallest unit
+     * @param flags Formatting flags
+     * @param width Minimum width or -1
+     * @param precision Digits after the decimal separator, or -1 for none
+     * @checkstyle ParameterNumber (3 lines)
+     */
+    void format(final Formatter formatter, final long value, final int flags,
+        final int width, final int precision) {
+        final UnitScale.Scratch scratch = UnitScale.SCRATCH.get();
+        final StringBuilder text = scratch.text;
+        text.setLength(0);
+        this.print(scratch, value, Math.max(precision, 0));
+        if ((flags & FormattableFlags.UPPERCASE) == FormattableFlags
+            .UPPERCASE) {
+            Locale locale = formatter.locale();
+            if (locale == null) {
+                locale = Locale.getDefault(Locale.Category.FORMAT);
+            }
+            final String upper = text.toString().toUpperCase(locale);
+            text.setLength(0);
+            text.append(upper);
+        }
+        final boolean left = (flags & FormattableFlags.LEFT_JUSTIFY)
+            == FormattableFlags.LEFT_JUSTIFY;
+        for (int pos = text.length(); pos < width; ++pos) {
+            if (left) {
+                text.append(' ');
+            } else {
+                text.insert(0, ' ');
+            }
+        }
+        if (formatter.out() instanceof StringBuilder) {
+            ((StringBuilder) formatter.out()).append(text);
+        } else {
+            formatter.format("%s", text);
+        }
+    }
+
+    /**
+     * Print the number and the suffix of its unit.
+     * @param scratch Buffer of the thread
+     * @param value The number
+     * @param digits Digits after the decimal separator
+     */
+    private void print(final UnitScale.Scratch scratch, final long value,
+        final int digits) {
+        int unit = 0;
+        while (unit + 1 < this.divisors.length
+            && value >= this.divisors[unit + 1]) {
+            ++unit;
+        }
+        if (!UnitScale.fixed(scratch, value, this.divisors[unit], digits)) {
+            scratch.text.append(
+                String.format(
+                    String.format("%%.%df", digits),
+                    (double) value / this.divisors[unit]
+                )
+            );
+        }
+        scratch.text.append(this.suffixes[unit]);
+    }
+
+    /**
+     * Print the quotient with fixed-point arithmetic, if it fits.
+     * @param scratch Buffer of the thread
+     * @param value The number
+     * @param divisor The divisor
+     * @param digits Digits after the decimal separator
+     * @return TRUE if printed, FALSE if it doesn't fit into {@code long}
+     */
+    private static boolean fixed(final UnitScale.Scratch scratch,
+        final long value, final long divisor, final int digits) {
+        boolean done = false;
+        if (digits < UnitScale.TENS.length && value != Long.MIN_VALUE) {
+            final long pow = UnitScale.TENS[digits];
+            final long abs = Math.abs(value);
+            if (abs <= Long.MAX_VALUE / pow) {
+                final long scaled = abs * pow;
+                long quotient = scaled / divisor;
+                if (scaled % divisor << 1 >= divisor) {
+                    ++quotient;
+                }
+                scratch.localize();
+                final StringBuilder text = scratch.text;
+                if (value < 0L) {
+                    text.append('-');
+                }
+                final int start = text.length();
+                text.append(quotient / pow);
+                if (digits > 0) {
+                    final int dot = text.length();
+                    text.append(pow + quotient % pow);
+                    text.setCharAt(dot, scratch.separator);
+                }
+                if (scratch.zero != '0') {
+                    for (int pos = start; pos < text.length(); ++pos) {
+                        final char chr = text.charAt(pos);
+                        if (chr >= '0' && chr <= '9') {
+                            text.setCharAt(
+                                pos, (char) (chr - '0' + scratch.zero)
+                            );
+                        }
+                    }
+                }
+                done = true;
+            }
+        }
+        return done;
+    }
+
+    /**
+     * Make powers of ten.
+     * @return Powers from zero to 18
+     */
+    private static long[] tens() {
+        final long[] tens = new long[19];
+        tens[0] = 1L;
+        for (int pos = 1; pos < tens.length; ++pos) {
+            tens[pos] = tens[pos - 1] * 10L;
+        }
+        return tens;
+    }
+
+    /**
+     * Buffer and locale symbols of a thread.
+     * @since 0.25
+     */
+    private static final class Scratch {
+
+        /**
+         * The text.
+         */
+        private final transient StringBuilder text;
+
+        /**
+         * Locale of the symbols.
+         */
+        private transient Locale locale;
+
+        /**
+         * Zero digit of the locale.
+         */
+        private transient char zero;
+
+        /**
+         * Decimal separator of the locale.
+         */
+        private transient char separator;
+
+        /**
+         * Ctor.
+         */
+        Scratch() {
+            this.text = new StringBuilder(32);
+        }
+
+        /**
+         * Take symbols of the current default locale.
+         */
+        void localize() {
+            final Locale current = Locale.getDefault(Locale.Category.FORMAT);
+            if (!current.equals(this.locale)) {
+                final DecimalFormatSymbols symbols =
+                    DecimalFormatSymbols.getInstance(current);
+                this.zero = symbols.getZeroDigit();
+                this.separator = symbols.getDecimalSeparator();
+                this.locale = current;
+            }
+        }
+    }
+}
@@ -4,20 +4,23 @@
  */
 package com.jcabi.log;
 
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
-import java.io.ByteArrayOutputStream;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import java.io.UnsupportedEncodingException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ReadableByteChannel;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 
 /**
@@ -33,6 +36,26 @@ import java.util.logging.Level;
  * <p>The class throws an exception if the process returns a non-zero exit
  * code.
  *
+ * <p>By default, {@code stdout} and {@code stderr} are read in two threads
+ * of their own. When many processes run at the same time, it's cheaper to
+ * read their streams in a few threads of a shared {@link StreamPump}:
+ *
+ * <pre> new VerboseProcess(builder, Level.INFO, Level.WARNING, pump)</pre>
+ *
+ * <p>The two threads are virtual, if the runtime supports them (Java 21
+ * and later), or platform daemon threads otherwise. Virtual threads may
+ * be disabled with {@code com.jcabi.log.virtual} system property set to
+ * {@code false}. Also, the streams may be read by the tasks submitted to
+ * an {@link Executor} of your choice, if it's given to the constructor.
+ *
+ * <p>To react to lines as soon as the process prints them, give listeners
+ * to {@link #waitFor(Consumer, Consumer)}:
+ *
+ * <pre> process.waitFor(
+ *   line -&gt; progress.update(line),
+ *   line -&gt; errors.add(line)
+ * );</pre>
+ *
  * <p>The class is thread-safe.
  *
  * @since 0.5
@@ -41,14 +64,26 @@ import java.util.logging.Level;
 public final class VerboseProcess implements Closeable {
 
     /**
-     * Charset.
+     * Number of stream monitors.
+     */
+    private static final int N_MONITORS = 2;
+
+    /**
+     * How many bytes of each stream {@link #waitFor()} keeps in memory,
+     * zero for all of them.
      */
-    private static final String UTF_8 = "UTF-8";
+    private static final int CAPTURE = (int) Math.min(
+        Integer.MAX_VALUE,
+        Integer.getInteger("com.jcabi.log.process.capture", 0) * 1024L
+    );
 
     /**
-     * Number of stream monitors.
+     * Methods to make a virtual thread ({@code Thread.ofVirtual()},
+     * {@code Thread.Builder.name(String)} and
+     * {@code Thread.Builder.unstarted(Runnable)}), or an empty array,
+     * if the runtime has no virtual threads or they are disabled.
      */
-    private static final int N_MONITORS = 2;
+    private static final Method[] VIRTUAL = VerboseProcess.virtual();
 
     /**
      * The process we're working with.
@@ -65,10 +100,20 @@ public final class VerboseProcess implements Closeable {
      */
     private final transient Level elevel;
 
+    /**
+     * Pump of streams, or NULL if they are read in threads of their own.
+     */
+    private final transient StreamPump pump;
+
+    /**
+     * Executor of monitors, or NULL if they run in threads of their own.
+     */
+    private final transient Executor executor;
+
     /**
      * Stream monitors.
      */
-    private final transient Thread[] monitors;
+    private final transient Future<?>[] monitors;
 
     /**
      * Flag to indicate the closure of this process.
@@ -107,6 +152,39 @@ public final class VerboseProcess implements Closeable {
         this(VerboseProcess.start(bdr), stdout, stderr);
     }
 
+    /**
+     * Public ctor, with a given process builder, logging levels for
+     * {@code stdout} and {@code stderr}, and a pump to read them.
+     * @param bdr Process builder to execute and monitor
+     * @param stdout Log level for stdout
+     * @param stderr Log level for stderr
+     * @param pmp Pump of streams
+     * @since 0.25
+     * @checkstyle ParameterNumber (3 lines)
+     */
+    public VerboseProcess(final ProcessBuilder bdr, final Level stdout,
+        final Level stderr, final StreamPump pmp) {
+        // @checkstyle ConstructorsCodeFreeCheck (1 line)
+        this(VerboseProcess.start(bdr), stdout, stderr, pmp);
+    }
+
+    /**
+     * Public ctor, with a given process builder, logging levels for
+     * {@code stdout} and {@code stderr}, and an executor of monitors,
+     * which read them.
+     * @param bdr Process builder to execute and monitor
+     * @param stdout Log level for stdout
+     * @param stderr Log level for stderr
+     * @param exec Executor of monitors
+     * @since 0.25
+     * @checkstyle ParameterNumber (3 lines)
+     */
+    public VerboseProcess(final ProcessBuilder bdr, final Level stdout,
+        final Level stderr, final Executor exec) {
+        // @checkstyle ConstructorsCodeFreeCheck (1 line)
+        this(VerboseProcess.start(bdr), stdout, stderr, exec);
+    }
+
     /**
      * Public ctor, with a given process and logging levels for {@code stdout}
      * and {@code stderr}. Neither {@code stdout} nor {@code stderr} cannot be
@@ -119,6 +197,54 @@ public final class VerboseProcess implements Closeable {
      */
     public VerboseProcess(final Process prc, final Level stdout,
         final Level stderr) {
+        this(prc, stdout, stderr, null, null);
+    }
+
+    /**
+     * Public ctor, with a given process, logging levels for {@code stdout}
+     * and {@code stderr}, and a pump to read them.
+     * @param prc Process to execute and monitor
+     * @param stdout Log level for stdout
+     * @param stderr Log level for stderr
+     * @param pmp Pump of streams
+     * @since 0.25
+     * @checkstyle ParameterNumber (3 lines)
+     */
+    public VerboseProcess(final Process prc, final Level stdout,
+        final Level stderr, final StreamPump pmp) {
+        this(prc, stdout, stderr, pmp, null);
+    }
+
+    /**
+     * Public ctor, with a given process, logging levels for {@code stdout}
+     * and {@code stderr}, and an executor of monitors, which read them.
+     *
+     * <p>The executor must be able to run two monitors at the same time,
+     * or the process may never finish, since nobody reads its output.
+     *
+     * @param prc Process to execute and monitor
+     * @param stdout Log level for stdout
+     * @param stderr Log level for stderr
+     * @param exec Executor of monitors
+     * @since 0.25
+     * @checkstyle ParameterNumber (3 lines)
+     */
+    public VerboseProcess(final Process prc, final Level stdout,
+        final Level stderr, final Executor exec) {
+        this(prc, stdout, stderr, null, exec);
+    }
+
+    /**
+     * Private ctor.
+     * @param prc Process to execute and monitor
+     * @param stdout Log level for stdout
+     * @param stderr Log level for stderr
+     * @param pmp Pump of streams, or NULL
+     * @param exec Executor of monitors, or NULL
+     * @checkstyle ParameterNumber (3 lines)
+     */
+    private VerboseProcess(final Process prc, final Level stdout,
+        final Level stderr, final StreamPump pmp, final Executor exec) {
         if (prc == null) {
             throw new IllegalArgumentException("process can't be NULL");
         }
@@ -141,7 +267,9 @@ public final class VerboseProcess implements Closeable {
         this.process = prc;
         this.olevel = stdout;
         this.elevel = stderr;
-        this.monitors = new Thread[VerboseProcess.N_MONITORS];
+        this.pump = pmp;
+        this.executor = exec;
+        this.monitors = new Future<?>[VerboseProcess.N_MONITORS];
     }
 
     /**
@@ -179,16 +307,126 @@ public final class VerboseProcess implements Closeable {
 
     /**
      * Wait for the process to stop, logging its output in parallel.
+     *
+     * <p>All the output is kept in memory, unless a limit is set in
+     * {@code com.jcabi.log.process.capture} system property, in kilobytes.
+     * See {@link #waitFor(int)}.
+     *
      * @return Stdout produced by the process
      * @throws InterruptedException If interrupted in between
      */
     public VerboseProcess.Result waitFor() throws InterruptedException {
+        return this.await(VerboseProcess.CAPTURE, null, null);
+    }
+
+    /**
+     * Wait for the process to stop, logging its output in parallel and
+     * giving every line of it to the listeners, as soon as it's printed.
+     *
+     * <p>Listeners are called in the threads, which read the output
+     * of the process, and no more output is read until they return. If
+     * they are too slow, the process will wait for them, when the buffer
+     * of its pipe is full. If the output is read by a {@link StreamPump},
+     * its threads are shared by all processes registered there, and a slow
+     * listener delays reading of all of them; such a listener should hand
+     * lines over to a thread of its own. Exceptions thrown by listeners
+     * are logged and ignored.
+     *
+     * @param stdout Listener of lines of {@code stdout}
+     * @param stderr Listener of lines of {@code stderr}
+     * @return Stdout produced by the process
+     * @throws InterruptedException If interrupted in between
+     * @since 0.25
+     */
+    public VerboseProcess.Result waitFor(final Consumer<String> stdout,
+        final Consumer<String> stderr) throws InterruptedException {
+        return this.waitFor(VerboseProcess.CAPTURE, stdout, stderr);
+    }
+
+    /**
+     * Wait for the process to stop, logging its output in parallel, and
+     * keeping no more than the given number of bytes of {@code stdout}
+     * and {@code stderr} in memory.
+     *
+     * <p>When the process prints more than that, the last bytes of
+     * the output are kept in memory and returned by
+     * {@link VerboseProcess.Result#stdout()}, while all of them are
+     * written into a temporary file and may be read from
+     * {@link VerboseProcess.Result#stdoutStream()}. The file is deleted
+     * when the result is closed, or, if it's never closed, only when
+     * the JVM exits, so close the result when many processes run.
+     *
+     * @param limit How many bytes of each stream to keep in memory,
+     *  zero for all of them
+     * @return Stdout produced by the process
+     * @throws InterruptedException If interrupted in between
+     * @since 0.25
+     */
+    public VerboseProcess.Result waitFor(final int limit)
+        throws InterruptedException {
+        return this.await(limit, null, null);
+    }
+
+    /**
+     * Wait for the process to stop, logging its output in parallel,
+     * giving every line of it to the listeners, and keeping no more than
+     * the given number of bytes of {@code stdout} and {@code stderr}
+     * in memory.
+     * @param limit How many bytes of each stream to keep in memory,
+     *  zero for all of them
+     * @param stdout Listener of lines of {@code stdout}
+     * @param stderr Listener of lines of {@code stderr}
+     * @return Stdout produced by the process
+     * @throws InterruptedException If interrupted in between
+     * @see #waitFor(int)
+     * @see #waitFor(Consumer, Consumer)
+     * @since 0.25
+     */
+    public VerboseProcess.Result waitFor(final int limit,
+        final Consumer<String> stdout, final Consumer<String> stderr)
+        throws InterruptedException {
+        if (stdout == null) {
+            throw new IllegalArgumentException("stdout listener can't be NULL");
+        }
+        if (stderr == null) {
+            throw new IllegalArgumentException("stderr listener can't be NULL");
+        }
+        return this.await(limit, stdout, stderr);
+    }
+
+    @Override
+    public void close() {
+        synchronized (this.monitors) {
+            this.closed = true;
+        }
+        for (final Future<?> monitor : this.monitors) {
+            if (monitor != null) {
+                monitor.cancel(true);
+                Logger.debug(this, "Monitor cancelled");
+            }
+        }
+        this.process.destroy();
+        Logger.debug(this, "Underlying process destroyed");
+    }
+
+    /**
+     * Wait for the process to stop, logging its output in parallel.
+     * @param limit How many bytes of each stream to keep in memory,
+     *  zero for all of them
+     * @param stdout Listener of lines of {@code stdout}, or NULL
+     * @param stderr Listener of lines of {@code stderr}, or NULL
+     * @return Stdout produced by the process
+     * @throws InterruptedException If interrupted in between
+     */
+    private VerboseProcess.Result await(final int limit,
+        final Consumer<String> stdout, final Consumer<String> stderr)
+        throws InterruptedException {
         final CountDownLatch done = new CountDownLatch(
             VerboseProcess.N_MONITORS
         );
-        final ByteArrayOutputStream stdout = new ByteArrayOutputStream();
-        final ByteArrayOutputStream stderr = new ByteArrayOutputStream();
-        this.launchMonitors(done, stdout, stderr);
+        final Capture out = new Capture(limit);
+        final Capture err = new Capture(limit);
+        this.launchMonitors(done, out, err, stdout, stderr);
         final int code;
         try {
             code = this.process.waitFor();
@@ -198,34 +436,30 @@ public final class VerboseProcess implements Closeable {
                 "#waitFor(): process finished: %s",
                 this.process
             );
-            if (!done.await(2L, TimeUnit.SECONDS)) {
-                Logger.error(this, "#wait() failed");
+            try {
+                if (!done.await(2L, TimeUnit.SECONDS)) {
+                    Logger.error(this, "#wait() failed");
+                }
+            } finally {
+                VerboseProcess.freeze(out, err);
             }
         }
-        try {
-            return new VerboseProcess.Result(
-                code,
-                stdout.toString(VerboseProcess.UTF_8),
-                stderr.toString(VerboseProcess.UTF_8)
-            );
-        } catch (final UnsupportedEncodingException ex) {
-            throw new IllegalStateException(ex);
-        }
+        return new VerboseProcess.Result(code, out, err);
     }
 
-    @Override
-    public void close() {
-        synchronized (this.monitors) {
-            this.closed = true;
-        }
-        for (final Thread monitor : this.monitors) {
-            if (monitor != null) {
-                monitor.interrupt();
-                Logger.debug(this, "Monitor interrupted");
+    /**
+     * Stop the captures, so that monitors, which are still running,
+     * can't change them any more.
+     * @param captures The captures
+     */
+    private static void freeze(final Capture... captures) {
+        for (final Capture capture : captures) {
+            try {
+                capture.freeze();
+            } catch (final IOException ex) {
+                throw new IllegalStateException(ex);
             }
         }
-        this.process.destroy();
-        Logger.debug(this, "Underlying process destroyed");
     }
 
     /**
@@ -266,6 +500,7 @@ public final class VerboseProcess implements Closeable {
             Thread.currentThread().interrupt();
             throw new IllegalStateException(ex);
         }
+        result.close();
         Logger.debug(
             this,
             "#stdout(): process %s completed (code=%d, size=%d) in %[ms]s",
@@ -289,11 +524,16 @@ public final class VerboseProcess implements Closeable {
      * @param done Latch that signals termination of all monitors
      * @param stdout Stream to write the underlying process's output
      * @param stderr Stream to wrint the underlying process's error output
+     * @param olstnr Listener of lines of {@code stdout}, or NULL
+     * @param elstnr Listener of lines of {@code stderr}, or NULL
+     * @checkstyle ParameterNumber (8 lines)
      */
     private void launchMonitors(
         final CountDownLatch done,
-        final ByteArrayOutputStream stdout,
-        final ByteArrayOutputStream stderr) {
+        final Capture stdout,
+        final Capture stderr,
+        final Consumer<String> olstnr,
+        final Consumer<String> elstnr) {
         synchronized (this.monitors) {
             if (this.closed) {
                 done.countDown();
@@ -302,8 +542,7 @@ public final class VerboseProcess implements Closeable {
                 this.monitors[0] = this.monitor(
                     this.process.getInputStream(),
                     done,
-                    stdout,
-                    this.olevel,
+                    new LineSplitter(this.olevel, stdout, olstnr),
                     "out"
                 );
                 Logger.debug(
@@ -315,8 +554,7 @@ public final class VerboseProcess implements Closeable {
                 this.monitors[1] = this.monitor(
                     this.process.getErrorStream(),
                     done,
-                    stderr,
-                    this.elevel,
+                    new LineSplitter(this.elevel, stderr, elstnr),
                     "err"
                 );
                 Logger.debug(
@@ -333,33 +571,116 @@ public final class VerboseProcess implements Closeable {
      * Monitor this input input.
      * @param input Stream to monitor
      * @param done Count down latch to signal when done
-     * @param output Buffer to write to
-     * @param level Logging level
+     * @param sink Where to push bytes read
      * @param name Name of this monitor. Used in logging as part of threadname
-     * @return Thread which is monitoring
-     * @checkstyle ParameterNumber (6 lines)
+     * @return Future of the monitoring, which may be cancelled
      */
-    private Thread monitor(final InputStream input,
-        final CountDownLatch done,
-        final OutputStream output, final Level level, final String name) {
-        final Thread thread = new Thread(
-            new VerboseRunnable(
-                new VerboseProcess.Monitor(input, done, output, level),
-                false
-            )
-        );
-        thread.setName(
-            String.format(
+    private Future<?> monitor(final InputStream input,
+        final CountDownLatch done, final LineSplitter sink,
+        final String name) {
+        final Future<?> future;
+        if (this.pump == null) {
+            final FutureTask<Void> task = new FutureTask<>(
+                new VerboseCallable<>(
+                    new VerboseProcess.Monitor(input, done, sink), false
+                )
+            );
+            final String title = String.format(
                 "VrbPrc.Monitor-%d-%s",
                 this.hashCode(),
                 name
-            )
-        );
-        thread.setDaemon(true);
-        thread.start();
+            );
+            if (this.executor == null) {
+                VerboseProcess.thread(task, title).start();
+            } else {
+                this.executor.execute(VerboseProcess.named(task, title));
+            }
+            future = task;
+        } else {
+            future = this.pump.register(input, this.process, sink, done);
+        }
+        return future;
+    }
+
+    /**
+     * Make a thread of a monitor, virtual if possible.
+     *
+     * <p>The monitor is a {@link FutureTask}, which never throws, while
+     * failures of the monitor inside it are logged by
+     * {@link VerboseCallable}.
+     *
+     * @param task The monitor
+     * @param name Name of the thread
+     * @return Thread, not started yet
+     */
+    private static Thread thread(final Runnable task, final String name) {
+        final Thread thread;
+        if (VerboseProcess.VIRTUAL.length == 0) {
+            thread = new Thread(task, name);
+            thread.setDaemon(true);
+        } else {
+            try {
+                thread = (Thread) VerboseProcess.VIRTUAL[2].invoke(
+                    VerboseProcess.VIRTUAL[1].invoke(
+                        VerboseProcess.VIRTUAL[0].invoke(null), name
+                    ),
+                    task
+                );
+            } catch (final IllegalAccessException
+                | InvocationTargetException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
         return thread;
     }
 
+    /**
+     * Run the monitor in a thread of an executor, giving the thread
+     * the name of the monitor while it runs.
+     * @param task The monitor
+     * @param name Name of the thread
+     * @return Task for the executor
+     */
+    private static Runnable named(final Runnable task, final String name) {
+        return () -> {
+            final Thread thread = Thread.currentThread();
+            final String before = thread.getName();
+            thread.setName(name);
+            try {
+                task.run();
+            } finally {
+                thread.setName(before);
+            }
+        };
+    }
+
+    /**
+     * Find methods to make virtual threads.
+     * @return Methods or an empty array, if there are no virtual threads
+     */
+    private static Method[] virtual() {
+        Method[] methods = new Method[0];
+        if (!"false".equals(System.getProperty("com.jcabi.log.virtual"))) {
+            try {
+                final Class<?> builder = Class.forName(
+                    "java.lang.Thread$Builder"
+                );
+                methods = new Method[] {
+                    Thread.class.getMethod("ofVirtual"),
+                    builder.getMethod("name", String.class),
+                    builder.getMethod("unstarted", Runnable.class),
+                };
+            } catch (final ClassNotFoundException | NoSuchMethodException ex) {
+                Logger.debug(
+                    VerboseProcess.class,
+                    "Virtual threads are not supported: %s",
+                    ex.getMessage()
+                );
+            }
+        }
+        return methods;
+    }
+
     /**
      * Stream monitor.
      * @since 0.1
@@ -377,40 +698,29 @@ public final class VerboseProcess implements Closeable {
         private final transient CountDownLatch done;
 
         /**
-         * Buffer to save output.
-         */
-        private final transient OutputStream output;
-
-        /**
-         * Log level.
+         * Where to push bytes read.
          */
-        private final transient Level level;
+        private final transient LineSplitter sink;
 
         /**
          * Ctor.
          * @param inp Stream to monitor
          * @param latch Count down latch to signal when done
-         * @param out Buffer to write to
-         * @param lvl Logging level
-         * @checkstyle ParameterNumber (5 lines)
+         * @param snk Where to push bytes read
          */
         Monitor(final InputStream inp, final CountDownLatch latch,
-            final OutputStream out, final Level lvl) {
+            final LineSplitter snk) {
             this.input = inp;
             this.done = latch;
-            this.output = out;
-            this.level = lvl;
+            this.sink = snk;
         }
 
         @Override
         public Void call() throws Exception {
+            final byte[] bytes = new byte[8192];
+            final ByteBuffer buffer = ByteBuffer.wrap(bytes);
             try (
-                BufferedReader reader = new BufferedReader(
-                    Channels.newReader(Channels.newChannel(this.input), VerboseProcess.UTF_8)
-                );
-                BufferedWriter writer = new BufferedWriter(
-                    new OutputStreamWriter(this.output, VerboseProcess.UTF_8)
-                )
+                ReadableByteChannel channel = Channels.newChannel(this.input)
             ) {
                 while (true) {
                     if (Thread.interrupted()) {
@@ -420,17 +730,15 @@ public final class VerboseProcess implements Closeable {
                         );
                         break;
                     }
-                    final String line = reader.readLine();
-                    if (line == null) {
+                    // Buffer#clear(), since ByteBuffer#clear() is not in Java 8
+                    ((Buffer) buffer).clear();
+                    final int len = channel.read(buffer);
+                    if (len < 0) {
                         break;
                     }
-                    Logger.log(
-                        this.level, VerboseProcess.class,
-                        ">> %s", line
-                    );
-                    writer.write(line);
-                    writer.newLine();
+                    this.sink.accept(bytes, len);
                 }
+                this.sink.finish();
             } catch (final ClosedByInterruptException ex) {
                 Thread.interrupted();
                 Logger.debug(
@@ -452,9 +760,15 @@ public final class VerboseProcess implements Closeable {
 
     /**
      * Class representing the result of a process.
+     *
+     * <p>If the output was too big to be kept in memory, it is in
+     * temporary files, which are deleted by {@link #close()}, or when
+     * the JVM exits. The output doesn't change after the result is made,
+     * even if the streams are still being read.
+     *
      * @since 0.1
      */
-    public static final class Result {
+    public static final class Result implements Closeable {
 
         /**
          * Returned code from the process.
@@ -464,12 +778,12 @@ public final class VerboseProcess implements Closeable {
         /**
          * {@code stdout} from the process.
          */
-        private final transient String out;
+        private final transient Capture out;
 
         /**
          * {@code stderr} from the process.
          */
-        private final transient String err;
+        private final transient Capture err;
 
         /**
          * Result class constructor.
@@ -477,7 +791,7 @@ public final class VerboseProcess implements Closeable {
          * @param stdout The {@code stdout} from the process
          * @param stderr The {@code stderr} from the process
          */
-        Result(final int code, final String stdout, final String stderr) {
+        Result(final int code, final Capture stdout, final Capture stderr) {
             this.exit = code;
             this.out = stdout;
             this.err = stderr;
@@ -493,18 +807,63 @@ public final class VerboseProcess implements Closeable {
 
         /**
          * Get {@code stdout} from the process.
-         * @return Full {@code stdout} of the process
+         * @return Full {@code stdout} of the process, or its end,
+         *  if it was too big to be kept in memory
          */
         public String stdout() {
-            return this.out;
+            return this.out.text();
         }
 
         /**
          * Get {@code stderr} from the process.
-         * @return Full {@code stderr} of the process
+         * @return Full {@code stderr} of the process, or its end,
+         *  if it was too big to be kept in memory
          */
         public String stderr() {
-            return this.err;
+            return this.err.text();
+        }
+
+        /**
+         * Is {@link #stdout()} or {@link #stderr()} not complete,
+         * because the output was too big to be kept in memory?
+         * @return TRUE if some output is only in the files
+         * @since 0.25
+         */
+        public boolean truncated() {
+            return this.out.truncated() || this.err.truncated();
+        }
+
+        /**
+         * Read full {@code stdout} of the process, in UTF-8.
+         * @return Stream of bytes, which has to be closed
+         * @throws IOException If fails to open the file
+         * @since 0.25
+         */
+        public InputStream stdoutStream() throws IOException {
+            return this.out.stream();
+        }
+
+        /**
+         * Read full {@code stderr} of the process, in UTF-8.
+         * @return Stream of bytes, which has to be closed
+         * @throws IOException If fails to open the file
+         * @since 0.25
+         */
+        public InputStream stderrStream() throws IOException {
+            return this.err.stream();
+        }
+
+        /**
+         * Delete temporary files, if any.
+         */
+        @Override
+        public void close() {
+            try {
+                this.out.close();
+                this.err.close();
+            } catch (final IOException ex) {
+                throw new IllegalStateException(ex);
+            }
         }
     }
 }
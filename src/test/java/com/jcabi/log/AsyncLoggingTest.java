@@ -0,0 +1,213 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.log;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import org.apache.log4j.PatternLayout;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+/**
+ * Test case for {@link AsyncLogging}.
+ *
+ * <p>None of the tests switches {@link Logger} to asynchronous mode,
+ * since tests run in parallel and it would affect all of them.
+ *
+ * @since 0.25
+ */
+final class AsyncLoggingTest {
+
+    @Test
+    void dispatchesMessagesInBackground() {
+        final String name = "com.jcabi.log.async-dispatch";
+        final UnitTestAppender appender = AsyncLoggingTest.appender(name);
+        final AsyncLogging async = new AsyncLogging().consume();
+        try {
+            for (int idx = 0; idx < 100; ++idx) {
+                async.enqueue(Level.INFO, name, "message #%d", idx);
+            }
+        } finally {
+            async.close();
+        }
+        MatcherAssert.assertThat(
+            "should send all messages to SLF4J",
+            appender.output(),
+            Matchers.allOf(
+                Matchers.containsString("message #0"),
+                Matchers.containsString("message #99")
+            )
+        );
+    }
+
+    @Test
+    void keepsMdcOfProducer() {
+        final String name = "com.jcabi.log.async-mdc";
+        final UnitTestAppender appender = AsyncLoggingTest.appender(name);
+        appender.setLayout(new PatternLayout("%X{request}|%m%n"));
+        final AsyncLogging async = new AsyncLogging().consume();
+        try {
+            MDC.put("request", "r-42");
+            async.enqueue(Level.INFO, name, "with context");
+            MDC.remove("request");
+            async.enqueue(Level.INFO, name, "without context");
+        } finally {
+            async.close();
+        }
+        MatcherAssert.assertThat(
+            "should restore MDC of the producer for every message",
+            appender.output(),
+            Matchers.allOf(
+                Matchers.containsString("r-42|with context"),
+                Matchers.containsString(
+                    String.format("%n|without context")
+                )
+            )
+        );
+    }
+
+    @Test
+    void wakesSleepingConsumer() throws Exception {
+        final String name = "com.jcabi.log.async-wake";
+        final UnitTestAppender appender = AsyncLoggingTest.appender(name);
+        final AsyncLogging async = new AsyncLogging().consume();
+        try {
+            TimeUnit.MILLISECONDS.sleep(50L);
+            final long start = System.nanoTime();
+            async.enqueue(Level.INFO, name, "wake up");
+            while (!appender.output().contains("wake up")
+                && System.nanoTime() - start
+                < TimeUnit.MILLISECONDS.toNanos(500L)) {
+                TimeUnit.MILLISECONDS.sleep(1L);
+            }
+        } finally {
+            async.close();
+        }
+        MatcherAssert.assertThat(
+            "should wake the consumer up, without waiting for its sleep to end",
+            appender.output(),
+            Matchers.containsString("wake up")
+        );
+    }
+
+    @Test
+    void blocksProducersWhenFull() throws Exception {
+        final String name = "com.jcabi.log.async-block";
+        AsyncLoggingTest.appender(name);
+        final AsyncLogging async = new AsyncLogging(
+            2, 2, AsyncLogging.Overflow.BLOCK
+        ).consume();
+        final ExecutorService producers = Executors.newFixedThreadPool(4);
+        try {
+            for (int thread = 0; thread < 4; ++thread) {
+                producers.execute(
+                    () -> {
+                        for (int idx = 0; idx < 250; ++idx) {
+                            async.enqueue(Level.INFO, name, "#%d", idx);
+                        }
+                    }
+                );
+            }
+            producers.shutdown();
+            producers.awaitTermination(1L, TimeUnit.MINUTES);
+        } finally {
+            async.close();
+        }
+        MatcherAssert.assertThat(
+            "should not lose any messages",
+            async.dispatched(),
+            Matchers.equalTo(1000L)
+        );
+    }
+
+    @Test
+    void dropsNewestMessagesWhenFull() {
+        final String name = "com.jcabi.log.async-drop";
+        final UnitTestAppender appender = AsyncLoggingTest.appender(name);
+        final AsyncLogging async = new AsyncLogging(
+            4, 1, AsyncLogging.Overflow.DROP_NEWEST
+        );
+        for (int idx = 0; idx < 10; ++idx) {
+            async.enqueue(Level.WARNING, name, "warning #%d", idx);
+        }
+        async.close();
+        MatcherAssert.assertThat(
+            "should count dropped messages",
+            async.dropped(),
+            Matchers.equalTo(6L)
+        );
+        MatcherAssert.assertThat(
+            "should keep the oldest messages",
+            appender.output(),
+            Matchers.allOf(
+                Matchers.containsString("warning #3"),
+                Matchers.not(Matchers.containsString("warning #4"))
+            )
+        );
+    }
+
+    @Test
+    void dropsOnlyLowestLevelsWhenFull() {
+        final String name = "com.jcabi.log.async-lowest";
+        AsyncLoggingTest.appender(name);
+        final AsyncLogging async = new AsyncLogging(
+            2, 1, AsyncLogging.Overflow.DROP_LOWEST
+        );
+        async.enqueue(Level.INFO, name, "first");
+        async.enqueue(Level.INFO, name, "second");
+        async.enqueue(Level.FINE, name, "third");
+        async.enqueue(Level.INFO, name, "fourth");
+        async.close();
+        MatcherAssert.assertThat(
+            "should drop messages below WARN",
+            async.dropped(),
+            Matchers.equalTo(2L)
+        );
+    }
+
+    @Test
+    void refusesMessagesWhenClosed() {
+        final AsyncLogging async = new AsyncLogging().consume();
+        async.close();
+        MatcherAssert.assertThat(
+            "should let Logger log synchronously after close",
+            async.publish(Level.INFO, this, "too late"),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            "should not count it as dropped",
+            async.dropped(),
+            Matchers.equalTo(0L)
+        );
+    }
+
+    @Test
+    void refusesMessagesWhenNotStarted() {
+        MatcherAssert.assertThat(
+            "should let Logger log synchronously",
+            AsyncLogging.offer(Level.INFO, this, "hello"),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * Attach an appender to the logger.
+     * @param name Name of the logger
+     * @return Appender
+     */
+    private static UnitTestAppender appender(final String name) {
+        final org.apache.log4j.Logger logger =
+            org.apache.log4j.Logger.getLogger(name);
+        final UnitTestAppender appender = new UnitTestAppender(name);
+        appender.activateOptions();
+        logger.addAppender(appender);
+        logger.setLevel(org.apache.log4j.Level.DEBUG);
+        return appender;
+    }
+}
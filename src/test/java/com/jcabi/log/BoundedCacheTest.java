@@ -0,0 +1,68 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.log;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link BoundedCache}.
+ * @since 0.25
+ */
+@SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+final class BoundedCacheTest {
+
+    @Test
+    void buildsValueOnlyOnce() {
+        final BoundedCache<String, String> cache = new BoundedCache<>(4);
+        cache.get("a", String::toUpperCase);
+        MatcherAssert.assertThat(
+            "should return cached value",
+            cache.get("a", key -> "other"),
+            Matchers.equalTo("A")
+        );
+        MatcherAssert.assertThat(
+            "should count one hit",
+            cache.hits(),
+            Matchers.equalTo(1L)
+        );
+        MatcherAssert.assertThat(
+            "should count one miss",
+            cache.misses(),
+            Matchers.equalTo(1L)
+        );
+    }
+
+    @Test
+    void staysWithinBounds() {
+        final BoundedCache<Integer, Integer> cache = new BoundedCache<>(16);
+        for (int idx = 0; idx < 1000; ++idx) {
+            cache.get(idx, key -> key * 2);
+        }
+        MatcherAssert.assertThat(
+            "should not grow over the limit",
+            cache.size(),
+            Matchers.lessThanOrEqualTo(16)
+        );
+    }
+
+    @Test
+    void keepsRecentlyUsedKeys() {
+        final BoundedCache<String, String> cache = new BoundedCache<>(8);
+        cache.get("hot", key -> key);
+        for (int idx = 0; idx < 100; ++idx) {
+            cache.get("hot", key -> key);
+            cache.get(String.valueOf(idx), key -> key);
+        }
+        final long misses = cache.misses();
+        cache.get("hot", key -> key);
+        MatcherAssert.assertThat(
+            "should not evict the hot key",
+            cache.misses(),
+            Matchers.equalTo(misses)
+        );
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.log;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Capture}.
+ * @since 0.25
+ */
+final class CaptureTest {
+
+    @Test
+    void keepsEverythingWithoutLimit() throws Exception {
+        try (Capture capture = new Capture(0)) {
+            for (int idx = 0; idx < 1000; ++idx) {
+                capture.write(
+                    String.format("%d,", idx).getBytes(StandardCharsets.UTF_8)
+                );
+            }
+            MatcherAssert.assertThat(
+                "should keep all bytes in memory",
+                capture.text(),
+                Matchers.allOf(
+                    Matchers.startsWith("0,1,2,"),
+                    Matchers.endsWith(",998,999,")
+                )
+            );
+            MatcherAssert.assertThat(
+                "should not be truncated",
+                capture.truncated(),
+                Matchers.is(false)
+            );
+        }
+    }
+
+    @Test
+    void keepsLastBytesInMemory() throws Exception {
+        try (Capture capture = new Capture(8)) {
+            capture.write("abcde".getBytes(StandardCharsets.UTF_8));
+            capture.write("fghijk".getBytes(StandardCharsets.UTF_8));
+            capture.write("lmnopqrstuvwxyz".getBytes(StandardCharsets.UTF_8));
+            MatcherAssert.assertThat(
+                "should keep the last bytes",
+                capture.text(),
+                Matchers.equalTo("stuvwxyz")
+            );
+            MatcherAssert.assertThat(
+                "should count all bytes",
+                capture.size(),
+                Matchers.equalTo(26L)
+            );
+        }
+    }
+
+    @Test
+    void ignoresBytesWhenFrozen() throws Exception {
+        final Capture capture = new Capture(4);
+        capture.write("abcdef".getBytes(StandardCharsets.UTF_8));
+        capture.freeze();
+        capture.write("ghi".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            "should not change after freeze",
+            capture.text(),
+            Matchers.equalTo("cdef")
+        );
+        capture.close();
+        Assertions.assertDoesNotThrow(
+            () -> capture.write("jkl".getBytes(StandardCharsets.UTF_8))
+        );
+    }
+
+    @Test
+    void spillsEverythingIntoFile() throws Exception {
+        final Capture capture = new Capture(4);
+        for (int idx = 0; idx < 100; ++idx) {
+            capture.write('a' + idx % 26);
+        }
+        final ByteArrayOutputStream all = new ByteArrayOutputStream();
+        try (InputStream stream = capture.stream()) {
+            final byte[] buffer = new byte[16];
+            while (true) {
+                final int len = stream.read(buffer);
+                if (len < 0) {
+                    break;
+                }
+                all.write(buffer, 0, len);
+            }
+        }
+        capture.close();
+        MatcherAssert.assertThat(
+            "should read all bytes from the file",
+            all.size(),
+            Matchers.equalTo(100)
+        );
+        MatcherAssert.assertThat(
+            "should keep the last bytes in memory",
+            capture.text(),
+            Matchers.equalTo("stuv")
+        );
+        Assertions.assertThrows(Exception.class, capture::stream);
+    }
+
+    @Test
+    void skipsBrokenCharacterAtStart() throws Exception {
+        try (Capture capture = new Capture(5)) {
+            capture.write("x€€".getBytes(StandardCharsets.UTF_8));
+            MatcherAssert.assertThat(
+                "should start with a complete character",
+                capture.text(),
+                Matchers.equalTo("€")
+            );
+        }
+    }
+}
@@ -4,6 +4,8 @@
  */
 package com.jcabi.log;
 
+import java.util.Formattable;
+import java.util.Formatter;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
@@ -31,4 +33,76 @@ final class DecorsManagerTest {
             () -> DecorsManager.decor("non-existing-formatter", null)
         );
     }
+
+    @Test
+    void findsDecorsOfProviders() {
+        MatcherAssert.assertThat(
+            "should use the decor of a provider by its key",
+            Logger.format("hash: %[hex]s", 255),
+            Matchers.equalTo("hash: 0xff")
+        );
+    }
+
+    @Test
+    void findsCustomDecorByClassName() throws Exception {
+        MatcherAssert.assertThat(
+            "should make a decor of a custom class",
+            DecorsManager.decor(DecorsManagerTest.Hex.class.getName(), 255),
+            Matchers.instanceOf(DecorsManagerTest.Hex.class)
+        );
+    }
+
+    @Test
+    void cachesFactoriesOfDecors() {
+        MatcherAssert.assertThat(
+            "should resolve the custom decor only once",
+            DecorsManager.factory(DecorsManagerTest.Hex.class.getName()),
+            Matchers.sameInstance(
+                DecorsManager.factory(DecorsManagerTest.Hex.class.getName())
+            )
+        );
+    }
+
+    @Test
+    void rejectsArgumentOfWrongType() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> DecorsManager.decor("ms", "not a number")
+        );
+    }
+
+    @Test
+    void wrapsFailuresOfDecors() {
+        Assertions.assertThrows(
+            DecorException.class,
+            () -> DecorsManager.decor("list", "not a list")
+        );
+    }
+
+    /**
+     * Custom decor.
+     * @since 0.25
+     */
+    public static final class Hex implements Formattable {
+
+        /**
+         * The number.
+         */
+        private final transient int number;
+
+        /**
+         * Ctor.
+         * @param num The number
+         */
+        public Hex(final int num) {
+            this.number = num;
+        }
+
+        // @checkstyle ParameterNumber (4 lines)
+        @Override
+        public void formatTo(final Formatter formatter, final int flags,
+            final int width, final int precision) {
+            formatter.format("%x", this.number);
+        }
+    }
 }
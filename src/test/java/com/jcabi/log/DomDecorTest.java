@@ -7,11 +7,12 @@ package com.jcabi.log;
 import java.util.Formattable;
 import java.util.Formatter;
 import javax.xml.parsers.DocumentBuilderFactory;
+import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
-import org.mockito.hamcrest.MockitoHamcrest;
 import org.w3c.dom.Document;
+import org.w3c.dom.Element;
 
 /**
  * Test case for {@link DomDecor}.
@@ -26,12 +27,14 @@ final class DomDecorTest {
             .newDocumentBuilder().newDocument();
         doc.appendChild(doc.createElement("root"));
         final Formattable decor = new DomDecor(doc);
-        final Appendable dest = Mockito.mock(Appendable.class);
+        final StringBuilder dest = new StringBuilder(0);
         try (Formatter fmt = new Formatter(dest)) {
-            decor.formatTo(fmt, 0, 0, 0);
+            decor.formatTo(fmt, 0, 0, -1);
         }
-        Mockito.verify(dest).append(
-            MockitoHamcrest.argThat(Matchers.containsString("<root/>"))
+        MatcherAssert.assertThat(
+            "should print the document",
+            dest.toString(),
+            Matchers.containsString("<root/>")
         );
     }
 
@@ -44,4 +47,33 @@ final class DomDecorTest {
         }
         Mockito.verify(dest).append("NULL");
     }
+
+    @Test
+    void truncatesLongDocuments() throws Exception {
+        final Document doc = DocumentBuilderFactory.newInstance()
+            .newDocumentBuilder().newDocument();
+        final Element root = doc.createElement("root");
+        for (int idx = 0; idx < 1000; ++idx) {
+            root.appendChild(doc.createElement("item"));
+        }
+        doc.appendChild(root);
+        MatcherAssert.assertThat(
+            "should print no more than the precision",
+            Logger.format("%[dom].100s", doc).length(),
+            Matchers.equalTo(100)
+        );
+    }
+
+    @Test
+    void reusesTransformerAfterTruncation() throws Exception {
+        final Document doc = DocumentBuilderFactory.newInstance()
+            .newDocumentBuilder().newDocument();
+        doc.appendChild(doc.createElement("first"));
+        Logger.format("%[dom].10s", doc);
+        MatcherAssert.assertThat(
+            "should print the entire document",
+            Logger.format("%[dom]s", doc),
+            Matchers.containsString("<first/>")
+        );
+    }
 }
@@ -5,12 +5,16 @@
 package com.jcabi.log;
 
 import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Arrays;
 import java.util.Formattable;
+import java.util.FormattableFlags;
 import java.util.Formatter;
+import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
-import org.mockito.hamcrest.MockitoHamcrest;
 
 /**
  * Test case for {@link ExceptionDecor}.
@@ -22,24 +26,104 @@ final class ExceptionDecorTest {
     @Test
     void convertsExceptionToText() throws Exception {
         final Formattable decor = new ExceptionDecor(new IOException("ouch!"));
-        final Appendable dest = Mockito.mock(Appendable.class);
+        final StringBuilder dest = new StringBuilder(0);
         try (Formatter fmt = new Formatter(dest)) {
-            decor.formatTo(fmt, 0, 0, 0);
+            decor.formatTo(fmt, 0, 0, -1);
         }
-        Mockito.verify(dest).append(
-            MockitoHamcrest.argThat(
-                Matchers.allOf(
-                    Matchers.containsString(
-                        "java.io.IOException: ouch!"
-                    ),
+        MatcherAssert.assertThat(
+            "should print the exception and its frames",
+            dest.toString(),
+            Matchers.allOf(
+                Matchers.containsString(
+                    "java.io.IOException: ouch!"
+                ),
+                Matchers.containsString(
+                    "at com.jcabi.log.ExceptionDecorTest."
+                )
+            )
+        );
+    }
+
+    @Test
+    void printsLikePrintStackTrace() {
+        final IllegalStateException error = new IllegalStateException(
+            "outer", new IOException("inner")
+        );
+        error.addSuppressed(new IllegalArgumentException("suppressed"));
+        final StringWriter expected = new StringWriter();
+        error.printStackTrace(new PrintWriter(expected));
+        MatcherAssert.assertThat(
+            "should print the same text as printStackTrace()",
+            Logger.format("%[exception]s", error),
+            Matchers.equalTo(expected.toString())
+        );
+    }
+
+    @Test
+    void limitsFramesByPrecision() {
+        final Throwable error = new IOException("short");
+        MatcherAssert.assertThat(
+            "should print only two frames and the tail",
+            Logger.format("%[exception].2s", error),
+            Matchers.allOf(
+                Matchers.containsString(
+                    String.format(
+                        "%n\tat %s%n\tat %s%n\t... %d more%n",
+                        error.getStackTrace()[0],
+                        error.getStackTrace()[1],
+                        error.getStackTrace().length - 2
+                    )
+                ),
+                Matchers.not(
                     Matchers.containsString(
-                        "at com.jcabi.log.ExceptionDecorTest."
+                        error.getStackTrace()[2].toString()
                     )
                 )
             )
         );
     }
 
+    @Test
+    void collapsesRepeatedFrames() {
+        final Throwable error = ExceptionDecorTest.recurse(50);
+        MatcherAssert.assertThat(
+            "should print recursive frames only once",
+            Logger.format("%[exception]s", error),
+            Matchers.containsString("frame(s) repeated")
+        );
+    }
+
+    @Test
+    void printsCircularCauses() {
+        final IOException first = new IOException("first");
+        final IllegalStateException second = new IllegalStateException(
+            "second", first
+        );
+        first.initCause(second);
+        MatcherAssert.assertThat(
+            "should stop at the circular reference",
+            Logger.format("%[exception]s", second),
+            Matchers.containsString(
+                "Caused by: [CIRCULAR REFERENCE: java.lang.IllegalStateException: second]"
+            )
+        );
+    }
+
+    @Test
+    void printsOnlyMessageInAlternateForm() {
+        final StringBuilder dest = new StringBuilder(0);
+        try (Formatter fmt = new Formatter(dest)) {
+            new ExceptionDecor(new IOException("just this")).formatTo(
+                fmt, FormattableFlags.ALTERNATE, -1, -1
+            );
+        }
+        MatcherAssert.assertThat(
+            "should print only the message",
+            dest.toString(),
+            Matchers.equalTo("just this")
+        );
+    }
+
     @Test
     void convertsNullToText() throws Exception {
         final Formattable decor = new ExceptionDecor(null);
@@ -49,4 +133,84 @@ final class ExceptionDecorTest {
         }
         Mockito.verify(dest).append("NULL");
     }
+
+    @Test
+    void reusesRenderedFrames() {
+        final Throwable error = new IOException("again");
+        MatcherAssert.assertThat(
+            "should print the same text from the cache",
+            Logger.format("%[exception]s", error),
+            Matchers.equalTo(Logger.format("%[exception]s", error))
+        );
+    }
+
+    @Test
+    void skipsFramesSeenInWindow() {
+        final StringBuilder dest = new StringBuilder(0);
+        try (Formatter fmt = new Formatter(dest)) {
+            for (int idx = 0; idx < 3; ++idx) {
+                new ExceptionDecor(new IOException("storm"), 60_000L)
+                    .formatTo(fmt, 0, -1, -1);
+            }
+        }
+        MatcherAssert.assertThat(
+            "should print frames only once in the window",
+            dest.toString(),
+            Matchers.allOf(
+                Matchers.containsString(
+                    "(the same stack trace 2 time(s) in the last 60000 ms)"
+                ),
+                Matchers.not(
+                    Matchers.containsString(
+                        "(the same stack trace 3 time(s)"
+                    )
+                )
+            )
+        );
+    }
+
+    @Test
+    void tellsTracesDifferingAtTheBottom() {
+        final StackTraceElement[] first = new StackTraceElement[8];
+        for (int idx = 0; idx < first.length; ++idx) {
+            first[idx] = new StackTraceElement(
+                "Foo", String.format("m%d", idx), "Foo.java", idx
+            );
+        }
+        final StackTraceElement[] second = first.clone();
+        second[7] = new StackTraceElement("Bar", "main", "Bar.java", 1);
+        final StringBuilder dest = new StringBuilder(0);
+        try (Formatter fmt = new Formatter(dest)) {
+            for (final StackTraceElement[] trace
+                : Arrays.asList(first, second)) {
+                final Throwable error = new IllegalStateException("bottom");
+                error.setStackTrace(trace);
+                new ExceptionDecor(error, 60_000L).formatTo(fmt, 0, -1, -1);
+            }
+        }
+        MatcherAssert.assertThat(
+            "should print both traces, since they differ",
+            dest.toString(),
+            Matchers.allOf(
+                Matchers.containsString("at Foo.m7(Foo.java:7)"),
+                Matchers.containsString("at Bar.main(Bar.java:1)"),
+                Matchers.not(Matchers.containsString("the same stack trace"))
+            )
+        );
+    }
+
+    /**
+     * Make an exception deep inside of a recursion.
+     * @param depth How deep
+     * @return The exception
+     */
+    private static Throwable recurse(final int depth) {
+        final Throwable error;
+        if (depth == 0) {
+            error = new IOException("deep");
+        } else {
+            error = ExceptionDecorTest.recurse(depth - 1);
+        }
+        return error;
+    }
 }
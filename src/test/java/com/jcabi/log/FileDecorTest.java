@@ -82,7 +82,14 @@ final class FileDecorTest {
             new Object[] {".", "./", 0, 0, 0},
             new Object[] {"/tmp", "/tmp", 0, 0, 0},
             new Object[] {new File("/tmp/x.txt"), "/tmp/x.txt", 0, 0, 0},
-            new Object[] {Paths.get("/a/b/c.txt"), "/a/b/c.txt", 0, 0, 0}
+            new Object[] {Paths.get("/a/b/c.txt"), "/a/b/c.txt", 0, 0, 0},
+            new Object[] {Paths.get("a", "b.txt"), "a/b.txt", 0, 0, 0},
+            new Object[] {
+                new File("c/d.txt").getAbsoluteFile(), "c/d.txt", 0, 0, 0,
+            },
+            new Object[] {
+                Paths.get("e.txt").toAbsolutePath(), "e.txt", 0, 0, 0,
+            }
         );
     }
 }
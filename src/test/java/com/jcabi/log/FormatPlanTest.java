@@ -0,0 +1,155 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.log;
+
+import java.util.Date;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link FormatPlan}.
+ * @since 0.25
+ */
+@SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+final class FormatPlanTest {
+
+    @Test
+    void removesDecorKeysFromFormat() {
+        MatcherAssert.assertThat(
+            "should remove decor keys",
+            FormatPlan.compile("%s in %[ms]s, %d%% done%n").format(),
+            Matchers.equalTo("%s in %s, %d%% done%n")
+        );
+    }
+
+    @Test
+    void wrapsArgumentsIntoDecors() {
+        final Object[] args = FormatPlan.compile("%s in %[ms]s").arguments(
+            "done", 1L
+        );
+        MatcherAssert.assertThat(
+            "should keep plain argument",
+            args[0],
+            Matchers.equalTo("done")
+        );
+        MatcherAssert.assertThat(
+            "should wrap argument into decor",
+            args[1],
+            Matchers.instanceOf(MsDecor.class)
+        );
+    }
+
+    @Test
+    void rejectsTooManyArguments() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> FormatPlan.compile("%s").arguments("a", "b")
+        );
+    }
+
+    @Test
+    void cachesCompiledFormats() {
+        final String fmt = "cached plan %s for %[type]s";
+        final FormatPlan plan = PreFormatter.plan(fmt);
+        final long hits = PreFormatter.plans().hits();
+        MatcherAssert.assertThat(
+            "should return the same plan",
+            PreFormatter.plan(fmt),
+            Matchers.sameInstance(plan)
+        );
+        MatcherAssert.assertThat(
+            "should count the hit",
+            PreFormatter.plans().hits(),
+            Matchers.greaterThan(hits)
+        );
+    }
+
+    @Test
+    void rendersDateTimeConversions() {
+        final Date date = new Date(0L);
+        MatcherAssert.assertThat(
+            "should render the year",
+            Logger.format("%tY", date),
+            Matchers.equalTo(String.format("%tY", date))
+        );
+        MatcherAssert.assertThat(
+            "should render hours and minutes",
+            Logger.format("at %tH:%TM of %[type]s", date, date, date),
+            Matchers.equalTo(
+                String.format("at %tH:%TM of java.util.Date", date, date)
+            )
+        );
+    }
+
+    @Test
+    void rendersCommonSpecifiersDirectly() {
+        MatcherAssert.assertThat(
+            "should render like String.format",
+            FormatPlan.compile("%s=%d (%x) %.2f%% %-4s|%S%n").render(
+                "x", 42L, 255, 1.5d, "ab", "up"
+            ),
+            Matchers.equalTo(
+                String.format(
+                    "%s=%d (%x) %.2f%% %-4s|%S%n", "x", 42L, 255, 1.5d, "ab", "up"
+                )
+            )
+        );
+    }
+
+    @Test
+    void rendersEscapedPercentsDirectly() {
+        final FormatPlan plan = FormatPlan.compile("%d%% of %s, 100%%");
+        MatcherAssert.assertThat(
+            "should not fall back to String.format",
+            plan.direct(),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(
+            "should print percents",
+            plan.render(42, "all"),
+            Matchers.equalTo("42% of all, 100%")
+        );
+    }
+
+    @Test
+    void rendersDecorsDirectly() {
+        MatcherAssert.assertThat(
+            "should render decor",
+            FormatPlan.compile("type is %[type]s, %s").render("a", null),
+            Matchers.equalTo("type is java.lang.String, null")
+        );
+    }
+
+    @Test
+    void rendersNestedMessages() {
+        final Object nested = new Object() {
+            @Override
+            public String toString() {
+                return Logger.format("<%s>", "inner");
+            }
+        };
+        MatcherAssert.assertThat(
+            "should render nested message",
+            FormatPlan.compile("outer %s %d").render(nested, 1),
+            Matchers.equalTo("outer <inner> 1")
+        );
+    }
+
+    @Test
+    void fallsBackForUnknownSpecifiers() {
+        MatcherAssert.assertThat(
+            "should not render indexes directly",
+            FormatPlan.compile("%s and %1$s").direct(),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            "should render with String.format",
+            FormatPlan.compile("%s, again %1$s and %s").render("a", "b"),
+            Matchers.equalTo("a, again a and b")
+        );
+    }
+}
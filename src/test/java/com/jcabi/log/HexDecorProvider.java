@@ -0,0 +1,26 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.log;
+
+import java.util.Formattable;
+
+/**
+ * Provider of {@code "hex"} decor, for unit tests. It's listed in
+ * {@code META-INF/services} of test resources.
+ * @since 0.25
+ */
+public final class HexDecorProvider implements DecorProvider {
+
+    @Override
+    public String key() {
+        return "hex";
+    }
+
+    @Override
+    public Formattable decor(final Object arg) {
+        return (formatter, flags, width, precision) ->
+            formatter.format("0x%x", arg);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.log;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link LazyMessage}.
+ * @since 0.25
+ */
+final class LazyMessageTest {
+
+    @Test
+    void rendersOnlyWhenAsked() {
+        final AtomicInteger calls = new AtomicInteger();
+        final Object arg = new Object() {
+            @Override
+            public String toString() {
+                return String.valueOf(calls.incrementAndGet());
+            }
+        };
+        LazyMessage.create("value: %s", arg);
+        MatcherAssert.assertThat(
+            "should not render until asked",
+            calls.get(),
+            Matchers.equalTo(0)
+        );
+    }
+
+    @Test
+    void skipsRenderingWhenLevelIsDisabled() {
+        final String name = "com.jcabi.log.lazy-disabled";
+        org.apache.log4j.Logger.getLogger(name).setLevel(
+            org.apache.log4j.Level.WARN
+        );
+        final AtomicInteger calls = new AtomicInteger();
+        Logger.debugForced(
+            name, "value: %s",
+            new Object() {
+                @Override
+                public String toString() {
+                    return String.valueOf(calls.incrementAndGet());
+                }
+            }
+        );
+        MatcherAssert.assertThat(
+            "should not render when SLF4J logger doesn't take the level",
+            calls.get(),
+            Matchers.equalTo(0)
+        );
+    }
+
+    @Test
+    void cachesRenderedText() {
+        final AtomicInteger calls = new AtomicInteger();
+        final LazyMessage message = LazyMessage.create(
+            "value: %s",
+            new Object() {
+                @Override
+                public String toString() {
+                    return String.valueOf(calls.incrementAndGet());
+                }
+            }
+        );
+        message.toString();
+        MatcherAssert.assertThat(
+            "should render once and cache the text",
+            message.toString(),
+            Matchers.equalTo("value: 1")
+        );
+    }
+
+    @Test
+    void logsFormattingFailures() {
+        final org.apache.log4j.Logger logger =
+            org.apache.log4j.Logger.getLogger(LazyMessage.class);
+        final UnitTestAppender appender = new UnitTestAppender("lazy");
+        appender.activateOptions();
+        logger.addAppender(appender);
+        try {
+            MatcherAssert.assertThat(
+                "should take the format as the text",
+                LazyMessage.create("number %d", "text").toString(),
+                Matchers.equalTo("number %d")
+            );
+        } finally {
+            logger.removeAppender(appender);
+        }
+        MatcherAssert.assertThat(
+            "should log the failure",
+            appender.output(),
+            Matchers.containsString("Can't format \"number %d\"")
+        );
+    }
+
+    @Test
+    void rendersMessageWithoutArguments() {
+        MatcherAssert.assertThat(
+            "should expand %n and %%",
+            LazyMessage.create("100%% done").toString(),
+            Matchers.equalTo("100% done")
+        );
+    }
+
+    @Test
+    void rejectsTooManyArgumentsRightAway() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> LazyMessage.create("only %s", "one", "two")
+        );
+    }
+}
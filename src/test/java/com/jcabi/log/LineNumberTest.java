@@ -43,10 +43,10 @@ final class LineNumberTest {
             Logger.info(this, "Test");
             TimeUnit.MILLISECONDS.sleep(1L);
             MatcherAssert.assertThat(
-                "should contains a 'com.jcabi.log.LineNumberTest:216'",
+                "should contains a 'com.jcabi.log.LineNumberTest:1028'",
                 writer.toString(),
                 Matchers.containsString(
-                    "com.jcabi.log.LineNumberTest:216"
+                    "com.jcabi.log.LineNumberTest:1028"
                 )
             );
         } finally {
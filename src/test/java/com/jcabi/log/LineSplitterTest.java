@@ -0,0 +1,103 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.log;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.logging.Level;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link LineSplitter}.
+ * @since 0.25
+ */
+final class LineSplitterTest {
+
+    @Test
+    void splitsLinesAsReaderDoes() throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final LineSplitter sink = new LineSplitter(Level.FINEST, output);
+        final byte[] bytes = "a\nb\r\nc\rd\n\ne".getBytes(
+            StandardCharsets.UTF_8
+        );
+        for (int idx = 0; idx < bytes.length; ++idx) {
+            sink.accept(new byte[] {bytes[idx]}, 1);
+        }
+        sink.finish();
+        MatcherAssert.assertThat(
+            "should split lines by LF, CR and CRLF",
+            output.toString("UTF-8"),
+            Matchers.equalTo(String.format("a%nb%nc%nd%n%ne%n"))
+        );
+    }
+
+    @Test
+    void keepsVeryLongLinesWhole() throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final LineSplitter sink = new LineSplitter(Level.FINEST, output);
+        final byte[] bytes = new byte[LineSplitter.MAX + 1];
+        Arrays.fill(bytes, (byte) 'x');
+        sink.accept(bytes, bytes.length);
+        sink.finish();
+        MatcherAssert.assertThat(
+            "should save a long line as is",
+            output.toString("UTF-8").split(System.lineSeparator()),
+            Matchers.arrayContaining(new String(bytes, StandardCharsets.UTF_8))
+        );
+    }
+
+    @Test
+    void savesRawBytesOfLinesNotLogged() throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final LineSplitter sink = new LineSplitter(Level.OFF, output);
+        final byte[] bytes = {(byte) 0xFF, 'a', '\r', '\n', (byte) 0xC3};
+        sink.accept(bytes, bytes.length);
+        sink.finish();
+        final byte[] eol = System.lineSeparator().getBytes(
+            StandardCharsets.UTF_8
+        );
+        final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        expected.write(bytes, 0, 2);
+        expected.write(eol, 0, eol.length);
+        expected.write(bytes, 4, 1);
+        expected.write(eol, 0, eol.length);
+        MatcherAssert.assertThat(
+            "should save bytes without decoding",
+            output.toByteArray(),
+            Matchers.equalTo(expected.toByteArray())
+        );
+    }
+
+    @Test
+    void givesLinesToListenerEvenIfFailing() throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final Collection<String> lines = new LinkedList<>();
+        final LineSplitter sink = new LineSplitter(
+            Level.OFF, output,
+            line -> {
+                lines.add(line);
+                throw new IllegalStateException("doesn't matter");
+            }
+        );
+        final byte[] bytes = "\u20ac1\n2".getBytes(StandardCharsets.UTF_8);
+        sink.accept(bytes, bytes.length);
+        sink.finish();
+        MatcherAssert.assertThat(
+            "should give decoded lines to the listener",
+            lines,
+            Matchers.contains("\u20ac1", "2")
+        );
+        MatcherAssert.assertThat(
+            "should save lines, despite failures of the listener",
+            output.toString("UTF-8"),
+            Matchers.equalTo(String.format("\u20ac1%n2%n"))
+        );
+    }
+}
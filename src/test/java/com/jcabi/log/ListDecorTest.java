@@ -9,8 +9,10 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Locale;
+import java.util.stream.Stream;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -45,6 +47,27 @@ final class ListDecorTest {
         );
     }
 
+    @Test
+    void printsInfiniteStreamsUpToPrecision() {
+        MatcherAssert.assertThat(
+            "should print first elements of an infinite stream",
+            Logger.format(
+                "%[list].3s", Stream.iterate(1, num -> num + 1)
+            ),
+            Matchers.equalTo("[\"1\", \"2\", \"3\", ...]")
+        );
+    }
+
+    @Test
+    void printsIterablesOfUnknownSize() throws DecorException {
+        final Iterable<String> items = () -> Arrays.asList("x", "y").iterator();
+        MatcherAssert.assertThat(
+            "should print elements of an iterable",
+            new Printed(new ListDecor(items), 0, 0, -1),
+            Matchers.hasToString("[\"x\", \"y\"]")
+        );
+    }
+
     /**
      * Params for this parametrized test.
      * @return Array of arrays of params for ctor
@@ -52,15 +75,22 @@ final class ListDecorTest {
     private static Collection<Object[]> params() {
         // @checkstyle MultipleStringLiterals (10 lines)
         return Arrays.asList(
-            new Object[] {null, "[NULL]", 0, 0, 0},
-            new Object[] {new String[] {}, "[]", 0, 0, 0},
-            new Object[] {new String[] {"a"}, "[\"a\"]", 0, 0, 0},
-            new Object[] {new Long[] {2L, 1L}, "[\"2\", \"1\"]", 0, 0, 0},
-            new Object[] {new Object[] {"b", "c"}, "[\"b\", \"c\"]", 0, 0, 0},
-            new Object[] {new Object[] {"foo", 2L}, "[\"foo\", \"2\"]", 0, 0, 0},
-            new Object[] {new ArrayList<String>(0), "[]", 0, 0, 0},
-            new Object[] {Collections.singletonList("x"), "[\"x\"]", 0, 0, 0},
-            new Object[] {Arrays.asList(1L, 2L), "[\"1\", \"2\"]", 0, 0, 0}
+            new Object[] {null, "[NULL]", 0, 0, -1},
+            new Object[] {new String[] {}, "[]", 0, 0, -1},
+            new Object[] {new String[] {"a"}, "[\"a\"]", 0, 0, -1},
+            new Object[] {new Long[] {2L, 1L}, "[\"2\", \"1\"]", 0, 0, -1},
+            new Object[] {new Object[] {"b", "c"}, "[\"b\", \"c\"]", 0, 0, -1},
+            new Object[] {new Object[] {"foo", 2L}, "[\"foo\", \"2\"]", 0, 0, -1},
+            new Object[] {new ArrayList<String>(0), "[]", 0, 0, -1},
+            new Object[] {Collections.singletonList("x"), "[\"x\"]", 0, 0, -1},
+            new Object[] {Arrays.asList(1L, 2L), "[\"1\", \"2\"]", 0, 0, -1},
+            new Object[] {new int[] {7, 8}, "[\"7\", \"8\"]", 0, 0, -1},
+            new Object[] {new char[] {'q'}, "[\"q\"]", 0, 0, -1},
+            new Object[] {
+                Arrays.asList("a", "b", "c"), "[\"a\", ...(2 more)]", 0, 0, 1,
+            },
+            new Object[] {new long[] {1L, 2L}, "[\"1\", ...(1 more)]", 0, 0, 1},
+            new Object[] {new Long[] {5L, 6L}, "[\"5\", \"6\"]", 0, 0, 2}
         );
     }
 }
@@ -0,0 +1,98 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.log;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link LogRing}.
+ * @since 0.25
+ */
+final class LogRingTest {
+
+    @Test
+    void roundsCapacityUpToPowerOfTwo() {
+        MatcherAssert.assertThat(
+            "should round capacity up",
+            new LogRing(5).capacity(),
+            Matchers.equalTo(8)
+        );
+    }
+
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void refusesEventsWhenFull() {
+        final LogRing ring = new LogRing(2);
+        final Object[] args = {};
+        ring.offer(Level.INFO, this, "first", args, 1L);
+        ring.offer(Level.INFO, this, "second", args, 2L);
+        MatcherAssert.assertThat(
+            "should refuse when full",
+            ring.offer(Level.INFO, this, "third", args, 3L),
+            Matchers.is(false)
+        );
+        final LogRing.Event event = new LogRing.Event();
+        ring.poll(event);
+        MatcherAssert.assertThat(
+            "should give the oldest event first",
+            event.format(),
+            Matchers.equalTo("first")
+        );
+        MatcherAssert.assertThat(
+            "should accept when there is a free slot",
+            ring.offer(Level.INFO, this, "fourth", args, 4L),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void passesEventsBetweenThreads() throws Exception {
+        final LogRing ring = new LogRing(16);
+        final Set<Object> seen = ConcurrentHashMap.newKeySet();
+        final AtomicInteger left = new AtomicInteger(4000);
+        final ExecutorService threads = Executors.newFixedThreadPool(8);
+        for (int thread = 0; thread < 4; ++thread) {
+            final int base = thread * 1000;
+            threads.execute(
+                () -> {
+                    for (int idx = 0; idx < 1000; ++idx) {
+                        while (!ring.offer(
+                            Level.INFO, base + idx, "", new Object[0], 0L
+                        )) {
+                            Thread.yield();
+                        }
+                    }
+                }
+            );
+            threads.execute(
+                () -> {
+                    final LogRing.Event event = new LogRing.Event();
+                    while (left.get() > 0) {
+                        if (ring.poll(event)) {
+                            seen.add(event.source());
+                            left.decrementAndGet();
+                        }
+                    }
+                }
+            );
+        }
+        threads.shutdown();
+        threads.awaitTermination(1L, TimeUnit.MINUTES);
+        MatcherAssert.assertThat(
+            "should deliver every event exactly once",
+            seen.size(),
+            Matchers.equalTo(4000)
+        );
+    }
+}
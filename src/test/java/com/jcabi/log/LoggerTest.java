@@ -102,6 +102,27 @@ final class LoggerTest {
         );
     }
 
+    @Test
+    void skipsErrorsWhenLevelIsOff() {
+        final String name = "com.jcabi.log.errors-off";
+        final UnitTestAppender appender = LoggerTest.appender(name);
+        org.apache.log4j.Logger.getLogger(name).setLevel(
+            org.apache.log4j.Level.OFF
+        );
+        Logger.error(name, "error #%d", 1);
+        Logger.error(name, "error #%s and #%s", "2", "3");
+        MatcherAssert.assertThat(
+            "should see that ERROR is disabled",
+            Logger.isErrorEnabled(name),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            "should log nothing",
+            appender.output(),
+            Matchers.not(Matchers.containsString("error #"))
+        );
+    }
+
     @Test
     void usesStringAsLoggerName() {
         Logger.info("com.jcabi.log...why.not", "hello, %s!", "world!");
@@ -120,4 +141,90 @@ final class LoggerTest {
             )
         );
     }
+
+    @Test
+    @SuppressWarnings("PMD.UnitTestContainsTooManyAsserts")
+    void seesLevelChangesOfCachedLoggers() {
+        final String name = "com.jcabi.log.cached";
+        final org.apache.log4j.Logger log = LogManager.getLogger(name);
+        log.setLevel(org.apache.log4j.Level.INFO);
+        MatcherAssert.assertThat(
+            "should be disabled",
+            Logger.isDebugEnabled(name),
+            Matchers.is(false)
+        );
+        log.setLevel(org.apache.log4j.Level.DEBUG);
+        MatcherAssert.assertThat(
+            "should be enabled after level change",
+            Logger.isDebugEnabled(name),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void logsFixedNumberOfArguments() {
+        final String name = "com.jcabi.log.fixed";
+        final UnitTestAppender appender = LoggerTest.appender(name);
+        Logger.info(name, "%s-%s-%s-%s", "a", "b", "c", "d");
+        Logger.debug(name, "%s+%s", 1, 2);
+        MatcherAssert.assertThat(
+            "should log all arguments",
+            appender.output(),
+            Matchers.allOf(
+                Matchers.containsString("a-b-c-d"),
+                Matchers.containsString("1+2")
+            )
+        );
+    }
+
+    @Test
+    void logsPrimitivesAsTheyAre() {
+        final String name = "com.jcabi.log.primitives";
+        final UnitTestAppender appender = LoggerTest.appender(name);
+        Logger.info(name, "char %s", 'x');
+        Logger.info(name, "float %s", 0.1f);
+        Logger.warn(name, "long %d", 42L);
+        MatcherAssert.assertThat(
+            "should not widen primitives",
+            appender.output(),
+            Matchers.allOf(
+                Matchers.containsString("char x"),
+                Matchers.not(Matchers.containsString("0.100")),
+                Matchers.containsString("long 42")
+            )
+        );
+    }
+
+    @Test
+    void logsBytesAndShortsWithoutWidening() {
+        final String name = "com.jcabi.log.narrow";
+        final UnitTestAppender appender = LoggerTest.appender(name);
+        Logger.infoForced(name, "byte %x", (byte) -1);
+        Logger.warn(name, "short %x", (short) -1);
+        MatcherAssert.assertThat(
+            "should not widen bytes and shorts to int",
+            appender.output(),
+            Matchers.allOf(
+                Matchers.containsString("byte ff"),
+                Matchers.not(Matchers.containsString("byte ffff")),
+                Matchers.containsString("short ffff"),
+                Matchers.not(Matchers.containsString("short ffffffff"))
+            )
+        );
+    }
+
+    /**
+     * Attach an appender to the logger.
+     * @param name Name of the logger
+     * @return Appender
+     */
+    private static UnitTestAppender appender(final String name) {
+        final org.apache.log4j.Logger logger =
+            org.apache.log4j.Logger.getLogger(name);
+        final UnitTestAppender appender = new UnitTestAppender(name);
+        appender.activateOptions();
+        logger.addAppender(appender);
+        logger.setLevel(org.apache.log4j.Level.DEBUG);
+        return appender;
+    }
 }
@@ -10,6 +10,7 @@ import org.apache.log4j.spi.LoggingEvent;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
@@ -100,6 +101,86 @@ final class MulticolorLayoutTest {
         );
     }
 
+    @Test
+    void paintsEveryLevelWithItsOwnColor() {
+        final MulticolorLayout layout = new MulticolorLayout();
+        layout.setConversionPattern("%color{%p}");
+        final LoggingEvent warn = Mockito.mock(LoggingEvent.class);
+        Mockito.doReturn(Level.WARN).when(warn).getLevel();
+        final LoggingEvent error = Mockito.mock(LoggingEvent.class);
+        Mockito.doReturn(Level.ERROR).when(error).getLevel();
+        MatcherAssert.assertThat(
+            "should paint levels differently",
+            StringEscapeUtils.escapeJava(
+                layout.format(warn) + layout.format(error)
+            ),
+            Matchers.equalTo(
+                "\\u001B[0;33mWARN\\u001B[m\\u001B[0;31mERROR\\u001B[m"
+            )
+        );
+    }
+
+    @Test
+    void repaintsWhenLevelsChange() {
+        final MulticolorLayout layout = new MulticolorLayout();
+        layout.setConversionPattern("%color{%p}");
+        final LoggingEvent event = Mockito.mock(LoggingEvent.class);
+        Mockito.doReturn(Level.WARN).when(event).getLevel();
+        layout.format(event);
+        layout.setLevels("WARN:1;32");
+        MatcherAssert.assertThat(
+            "should use the new color of the level",
+            StringEscapeUtils.escapeJava(layout.format(event)),
+            Matchers.equalTo("\\u001B[1;32mWARN\\u001B[m")
+        );
+    }
+
+    @Test
+    void removesColorsWhenColoringIsDisabled() {
+        final MulticolorLayout layout = new MulticolorLayout();
+        layout.setConversionPattern(MulticolorLayoutTest.CONV_PATTERN);
+        layout.setColoring("false");
+        final LoggingEvent event = Mockito.mock(LoggingEvent.class);
+        Mockito.doReturn(Level.INFO).when(event).getLevel();
+        Mockito.doReturn("plain").when(event).getRenderedMessage();
+        MatcherAssert.assertThat(
+            "should print without colors",
+            layout.format(event),
+            Matchers.equalTo("[INFO] plain")
+        );
+    }
+
+    @Test
+    void removesColorsOfMessageWhenColoringIsDisabled() {
+        final MulticolorLayout layout = new MulticolorLayout();
+        layout.setConversionPattern(MulticolorLayoutTest.CONV_PATTERN);
+        layout.setColoring("false");
+        final LoggingEvent event = Mockito.mock(LoggingEvent.class);
+        Mockito.doReturn(Level.INFO).when(event).getLevel();
+        Mockito.doReturn("\u001b[31mred\u001b[m text")
+            .when(event).getRenderedMessage();
+        MatcherAssert.assertThat(
+            "should remove color codes of the message too",
+            layout.format(event),
+            Matchers.equalTo("[INFO] red text")
+        );
+    }
+
+    @Test
+    void removesColorsWithoutConsole() {
+        Assumptions.assumeTrue(System.console() == null);
+        final MulticolorLayout layout = new MulticolorLayout();
+        layout.setConversionPattern("%color{%p}");
+        layout.setColoring("auto");
+        final LoggingEvent event = Mockito.mock(LoggingEvent.class);
+        Mockito.doReturn(Level.INFO).when(event).getLevel();
+        MatcherAssert.assertThat(
+            "should print without colors, when there is no console",
+            layout.format(event),
+            Matchers.equalTo("INFO")
+        );
+    }
+
     @Test
     void throwsOnIllegalColorName() {
         Assertions.assertThrows(
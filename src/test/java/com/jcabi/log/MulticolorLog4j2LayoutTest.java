@@ -0,0 +1,157 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.log;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.apache.commons.text.StringEscapeUtils;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.core.layout.ByteBufferDestination;
+import org.apache.logging.log4j.core.layout.ByteBufferDestinationHelper;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link MulticolorLog4j2Layout}.
+ * @since 0.25
+ */
+final class MulticolorLog4j2LayoutTest {
+
+    @Test
+    void paintsLevelsWithTheirColors() {
+        MatcherAssert.assertThat(
+            "should paint the level and the message",
+            StringEscapeUtils.escapeJava(
+                MulticolorLog4j2Layout.createLayout(
+                    "[%color{%p}] %color-red{%m}", null, null, "true",
+                    StandardCharsets.UTF_8, null
+                ).toSerializable(MulticolorLog4j2LayoutTest.event(Level.WARN))
+            ),
+            Matchers.equalTo(
+                "[\\u001B[0;33mWARN\\u001B[m] \\u001B[31mhello\\u001B[m"
+            )
+        );
+    }
+
+    @Test
+    void takesColorsOfLevelsFromAttributes() {
+        MatcherAssert.assertThat(
+            "should paint the level with the configured color",
+            StringEscapeUtils.escapeJava(
+                MulticolorLog4j2Layout.createLayout(
+                    "%color{%p}", null, "ERROR:1;31", "true",
+                    StandardCharsets.UTF_8, null
+                ).toSerializable(MulticolorLog4j2LayoutTest.event(Level.ERROR))
+            ),
+            Matchers.equalTo("\\u001B[1;31mERROR\\u001B[m")
+        );
+    }
+
+    @Test
+    void encodesWithoutColors() {
+        final MulticolorLog4j2Layout layout = MulticolorLog4j2Layout
+            .createLayout(
+                "[%color{%p}] %m", null, null, "false",
+                StandardCharsets.UTF_8, null
+            );
+        final MulticolorLog4j2LayoutTest.Destination dest =
+            new MulticolorLog4j2LayoutTest.Destination();
+        layout.encode(MulticolorLog4j2LayoutTest.event(Level.INFO), dest);
+        MatcherAssert.assertThat(
+            "should encode the event without colors",
+            dest.text(),
+            Matchers.equalTo("[INFO] hello")
+        );
+    }
+
+    @Test
+    void removesColorsOfMessageWithoutColoring() {
+        MatcherAssert.assertThat(
+            "should remove color codes of the message too",
+            MulticolorLog4j2Layout.createLayout(
+                "[%color{%p}] %m", null, null, "false",
+                StandardCharsets.UTF_8, null
+            ).toSerializable(
+                MulticolorLog4j2LayoutTest.event(
+                    Level.INFO, "\u001b[31mred\u001b[m text"
+                )
+            ),
+            Matchers.equalTo("[INFO] red text")
+        );
+    }
+
+    /**
+     * Make an event.
+     * @param level The level
+     * @return The event
+     */
+    private static LogEvent event(final Level level) {
+        return MulticolorLog4j2LayoutTest.event(level, "hello");
+    }
+
+    /**
+     * Make an event.
+     * @param level The level
+     * @param text The message
+     * @return The event
+     */
+    private static LogEvent event(final Level level, final String text) {
+        return Log4jLogEvent.newBuilder()
+            .setLevel(level)
+            .setLoggerName("test")
+            .setMessage(new SimpleMessage(text))
+            .build();
+    }
+
+    /**
+     * Destination in memory.
+     * @since 0.25
+     */
+    private static final class Destination implements ByteBufferDestination {
+
+        /**
+         * The buffer.
+         */
+        private final transient ByteBuffer buffer = ByteBuffer.allocate(1024);
+
+        @Override
+        public ByteBuffer getByteBuffer() {
+            return this.buffer;
+        }
+
+        @Override
+        public ByteBuffer drain(final ByteBuffer buf) {
+            return buf;
+        }
+
+        @Override
+        public void writeBytes(final ByteBuffer data) {
+            ByteBufferDestinationHelper.writeToUnsynchronized(data, this);
+        }
+
+        @Override
+        public void writeBytes(final byte[] data, final int offset,
+            final int length) {
+            ByteBufferDestinationHelper.writeToUnsynchronized(
+                data, offset, length, this
+            );
+        }
+
+        /**
+         * Text written.
+         * @return The text
+         */
+        String text() {
+            return new String(
+                this.buffer.array(), 0, this.buffer.position(),
+                StandardCharsets.UTF_8
+            );
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.log;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import org.apache.commons.text.StringEscapeUtils;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link MulticolorLogbackLayout}.
+ * @since 0.25
+ */
+final class MulticolorLogbackLayoutTest {
+
+    @Test
+    void paintsLevelsWithTheirColors() {
+        final LoggerContext context = new LoggerContext();
+        final MulticolorLogbackLayout layout = new MulticolorLogbackLayout();
+        layout.setContext(context);
+        layout.setPattern("[%color{%level}] %color-blue{%msg}");
+        layout.setColoring("true");
+        layout.start();
+        MatcherAssert.assertThat(
+            "should paint the level and the message",
+            StringEscapeUtils.escapeJava(
+                layout.doLayout(
+                    MulticolorLogbackLayoutTest.event(context, Level.ERROR)
+                )
+            ),
+            Matchers.equalTo(
+                "[\\u001B[0;31mERROR\\u001B[m] \\u001B[34mhello\\u001B[m"
+            )
+        );
+    }
+
+    @Test
+    void printsWithoutColors() {
+        final LoggerContext context = new LoggerContext();
+        final MulticolorLogbackLayout layout = new MulticolorLogbackLayout();
+        layout.setContext(context);
+        layout.setPattern("[%color{%level}] %msg");
+        layout.setLevels("INFO:1;32");
+        layout.setColoring("false");
+        layout.start();
+        MatcherAssert.assertThat(
+            "should print without colors",
+            layout.doLayout(
+                MulticolorLogbackLayoutTest.event(context, Level.INFO)
+            ),
+            Matchers.equalTo("[INFO] hello")
+        );
+    }
+
+    @Test
+    void removesColorsOfMessageWithoutColoring() {
+        final LoggerContext context = new LoggerContext();
+        final MulticolorLogbackLayout layout = new MulticolorLogbackLayout();
+        layout.setContext(context);
+        layout.setPattern("[%color{%level}] %msg");
+        layout.setColoring("false");
+        layout.start();
+        MatcherAssert.assertThat(
+            "should remove color codes of the message too",
+            layout.doLayout(
+                new LoggingEvent(
+                    MulticolorLogbackLayoutTest.class.getName(),
+                    context.getLogger("test"), Level.INFO,
+                    "\u001b[31mred\u001b[m text", null, null
+                )
+            ),
+            Matchers.equalTo("[INFO] red text")
+        );
+    }
+
+    /**
+     * Make an event.
+     * @param context The context
+     * @param level The level
+     * @return The event
+     */
+    private static LoggingEvent event(final LoggerContext context,
+        final Level level) {
+        return new LoggingEvent(
+            MulticolorLogbackLayoutTest.class.getName(),
+            context.getLogger("test"), level, "hello", null, null
+        );
+    }
+}
@@ -4,11 +4,13 @@
  */
 package com.jcabi.log;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Locale;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -43,6 +45,26 @@ final class ObjectDecorTest {
         );
     }
 
+    @Test
+    void printsCircularArraysOnce() {
+        final Object[] array = new Object[1];
+        array[0] = array;
+        MatcherAssert.assertThat(
+            "should stop at the circular reference",
+            Logger.format("%[object]s", (Object) array),
+            Matchers.equalTo("[[CIRCULAR REFERENCE]]")
+        );
+    }
+
+    @Test
+    void printsInaccessibleFields() {
+        MatcherAssert.assertThat(
+            "should not fail on fields of JDK classes",
+            Logger.format("%[object]s", new ArrayList<>(0)),
+            Matchers.containsString("size: ?")
+        );
+    }
+
     /**
      * Params for this parametrized test.
      * @return Array of arrays of params for ctor
@@ -70,7 +92,10 @@ final class ObjectDecorTest {
             },
             new Object[] {
                 new Object[] {new Object[] {null}}, "[[NULL", 0, 0, 0,
-            }
+            },
+            new Object[] {new int[] {1, 2, 3}, "[1, 2, 3]", 0, 0, 0},
+            new Object[] {new char[] {'a', 'b'}, "[a, b]", 0, 0, 0},
+            new Object[] {new Object[0], "[]", 0, 0, 0}
         );
     }
 
@@ -0,0 +1,162 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.log;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link StreamPump}.
+ * @since 0.25
+ */
+final class StreamPumpTest {
+
+    @Test
+    void pumpsStreamsOfManyProcesses() throws Exception {
+        try (StreamPump pump = new StreamPump(2).start()) {
+            final Collection<VerboseProcess> processes = new ArrayList<>(0);
+            for (int idx = 0; idx < 20; ++idx) {
+                processes.add(
+                    new VerboseProcess(
+                        StreamPumpTest.process(String.format("line %d", idx)),
+                        Level.FINEST, Level.FINEST, pump
+                    )
+                );
+            }
+            int idx = 0;
+            for (final VerboseProcess process : processes) {
+                MatcherAssert.assertThat(
+                    "should read stdout of every process",
+                    process.stdout(),
+                    Matchers.equalTo(String.format("line %d%n", idx))
+                );
+                ++idx;
+            }
+            MatcherAssert.assertThat(
+                "should count all bytes",
+                pump.bytes(),
+                Matchers.equalTo(130L)
+            );
+            MatcherAssert.assertThat(
+                "should forget streams when they are over",
+                pump.streams(),
+                Matchers.equalTo(0)
+            );
+        }
+    }
+
+    @Test
+    void readsTailsWithoutBlockingOtherStreams() throws Exception {
+        final CountDownLatch held = new CountDownLatch(1);
+        final InputStream blocked = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                try {
+                    held.await();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(ex);
+                }
+                return -1;
+            }
+        };
+        final Process stuck = Mockito.mock(Process.class);
+        try (StreamPump pump = new StreamPump(1).start()) {
+            final CountDownLatch first = new CountDownLatch(1);
+            pump.register(
+                blocked, stuck,
+                new LineSplitter(Level.FINEST, new ByteArrayOutputStream()),
+                first
+            );
+            final VerboseProcess other = new VerboseProcess(
+                StreamPumpTest.process("not blocked"),
+                Level.FINEST, Level.FINEST, pump
+            );
+            MatcherAssert.assertThat(
+                "should read other streams while a tail is blocked",
+                other.stdout(),
+                Matchers.startsWith("not blocked")
+            );
+            MatcherAssert.assertThat(
+                "should wait for the tail still being read",
+                first.getCount(),
+                Matchers.equalTo(1L)
+            );
+            held.countDown();
+            MatcherAssert.assertThat(
+                "should release waiters when the tail is over",
+                first.await(1L, TimeUnit.MINUTES),
+                Matchers.is(true)
+            );
+        }
+    }
+
+    @Test
+    void releasesWaitersWhenClosed() throws Exception {
+        final Process prc = Mockito.mock(Process.class);
+        Mockito.doReturn(true).when(prc).isAlive();
+        final CountDownLatch done = new CountDownLatch(1);
+        final StreamPump pump = new StreamPump().start();
+        pump.register(
+            new ByteArrayInputStream(new byte[0]), prc,
+            new LineSplitter(Level.FINEST, new ByteArrayOutputStream()),
+            done
+        );
+        MatcherAssert.assertThat(
+            "should wait while the process is alive",
+            pump.streams(),
+            Matchers.equalTo(1)
+        );
+        pump.close();
+        MatcherAssert.assertThat(
+            "should release waiters",
+            done.getCount(),
+            Matchers.equalTo(0L)
+        );
+    }
+
+    @Test
+    void refusesStreamsWhenNotStarted() {
+        final StreamPump pump = new StreamPump();
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> pump.register(
+                new ByteArrayInputStream(new byte[0]),
+                Mockito.mock(Process.class),
+                new LineSplitter(Level.FINEST, new ByteArrayOutputStream()),
+                new CountDownLatch(1)
+            )
+        );
+    }
+
+    /**
+     * Mock a finished process.
+     * @param stdout Its output
+     * @return The process
+     */
+    private static Process process(final String stdout) {
+        final Process prc = Mockito.mock(Process.class);
+        final InputStream input = new ByteArrayInputStream(
+            stdout.getBytes(StandardCharsets.UTF_8)
+        );
+        Mockito.doReturn(input).when(prc).getInputStream();
+        Mockito.doReturn(new ByteArrayInputStream(new byte[0]))
+            .when(prc).getErrorStream();
+        return prc;
+    }
+}
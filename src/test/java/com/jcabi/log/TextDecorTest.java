@@ -69,6 +69,26 @@ final class TextDecorTest {
         );
     }
 
+    @Test
+    void cutsTextByPrecision() {
+        MatcherAssert.assertThat(
+            "should keep the text within precision",
+            Logger.format("%[text].20s", StringUtils.repeat('y', 1000)),
+            Matchers.equalTo("yyyyyyyyyy..980..yyy")
+        );
+    }
+
+    @Test
+    void escapesLineBreaksOfCharSequences() {
+        final StringBuilder text = new StringBuilder(0)
+            .append("first").append(System.lineSeparator()).append("second");
+        MatcherAssert.assertThat(
+            "should escape line breaks",
+            Logger.format("%[text]s", text),
+            Matchers.equalTo("first\\nsecond")
+        );
+    }
+
     /**
      * Params for this parametrized test.
      * @return Array of arrays of params for ctor
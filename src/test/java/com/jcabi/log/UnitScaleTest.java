@@ -0,0 +1,116 @@
+/*
+ * SPDX-FileCopyrightText: Copyright (c) 2012-2026 Yegor Bugayenko
+ * SPDX-License-Identifier: MIT
+ */
+package com.jcabi.log;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.FormattableFlags;
+import java.util.Formatter;
+import java.util.Locale;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Test case for {@link UnitScale}.
+ * @since 0.25
+ * @checkstyle ParameterNumberCheck (500 lines)
+ */
+final class UnitScaleTest {
+
+    @ParameterizedTest
+    @MethodSource("params")
+    void printsLikeStringFormat(final long value, final int precision) {
+        Locale.setDefault(Locale.US);
+        final StringBuilder text = new StringBuilder(0);
+        UnitScale.MILLIS.format(new Formatter(text), value, 0, -1, precision);
+        MatcherAssert.assertThat(
+            "should print as %f prints the quotient",
+            text.toString(),
+            Matchers.startsWith(
+                String.format(
+                    String.format("%%.%df", Math.max(precision, 0)),
+                    (double) value / UnitScaleTest.divisor(value)
+                )
+            )
+        );
+    }
+
+    @Test
+    void printsIntoAnyAppendable() {
+        Locale.setDefault(Locale.US);
+        final StringWriter writer = new StringWriter();
+        UnitScale.BYTES.format(
+            new Formatter(writer), 1536L,
+            FormattableFlags.LEFT_JUSTIFY | FormattableFlags.UPPERCASE, 7, 1
+        );
+        MatcherAssert.assertThat(
+            "should print into a writer",
+            writer.toString(),
+            Matchers.equalTo("1.5KB  ")
+        );
+    }
+
+    @Test
+    void printsHugeNumbers() {
+        Locale.setDefault(Locale.US);
+        final StringBuilder text = new StringBuilder(0);
+        UnitScale.BYTES.format(new Formatter(text), Long.MAX_VALUE, 0, -1, 2);
+        MatcherAssert.assertThat(
+            "should print the biggest size",
+            text.toString(),
+            Matchers.equalTo("8.00Eb")
+        );
+    }
+
+    @Test
+    void printsNegativeNumbers() {
+        Locale.setDefault(Locale.US);
+        final StringBuilder text = new StringBuilder(0);
+        UnitScale.NANOS.format(new Formatter(text), -1500L, 0, 10, 1);
+        MatcherAssert.assertThat(
+            "should print negative number in the smallest unit",
+            text.toString(),
+            Matchers.equalTo(" -1500.0ns")
+        );
+    }
+
+    /**
+     * Divisor of milliseconds, as {@link MsDecor} always had it.
+     * @param value The number
+     * @return The divisor
+     */
+    private static long divisor(final long value) {
+        final long[] divisors = {
+            1L, 1000L, 60_000L, 3_600_000L, 86_400_000L, 2_592_000_000L,
+        };
+        int unit = 0;
+        while (unit + 1 < divisors.length && value >= divisors[unit + 1]) {
+            ++unit;
+        }
+        return divisors[unit];
+    }
+
+    /**
+     * Params for this parametrized test.
+     * @return Array of arrays of params
+     */
+    private static Collection<Object[]> params() {
+        return Arrays.asList(
+            new Object[] {0L, -1},
+            new Object[] {1500L, 0},
+            new Object[] {2500L, 0},
+            new Object[] {1005L, 2},
+            new Object[] {1_234_567L, 3},
+            new Object[] {59_999L, 2},
+            new Object[] {3_599_999L, 4},
+            new Object[] {Long.MAX_VALUE, 5},
+            new Object[] {12_345L, 25}
+        );
+    }
+}
@@ -4,14 +4,21 @@
  */
 package com.jcabi.log;
 
+import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import org.apache.commons.lang3.StringUtils;
@@ -245,6 +252,120 @@ final class VerboseProcessTest {
         );
     }
 
+    @Test
+    void readsStreamsInSharedPump() {
+        Assumptions.assumeFalse(SystemUtils.IS_OS_WINDOWS, "");
+        try (StreamPump pump = new StreamPump().start()) {
+            try (
+                VerboseProcess process = new VerboseProcess(
+                    new ProcessBuilder("echo", "pumped"),
+                    Level.INFO, Level.WARNING, pump
+                )
+            ) {
+                MatcherAssert.assertThat(
+                    "should read stdout in the pump",
+                    process.stdout(),
+                    Matchers.equalTo(
+                        String.format("pumped%n")
+                    )
+                );
+            }
+        }
+    }
+
+    @Test
+    void readsStreamsInGivenExecutor() {
+        Assumptions.assumeFalse(SystemUtils.IS_OS_WINDOWS, "");
+        final ExecutorService threads = Executors.newFixedThreadPool(2);
+        try (
+            VerboseProcess process = new VerboseProcess(
+                new ProcessBuilder("echo", "executed"),
+                Level.INFO, Level.WARNING, threads
+            )
+        ) {
+            MatcherAssert.assertThat(
+                "should read stdout in the executor",
+                process.stdout(),
+                Matchers.equalTo(String.format("executed%n"))
+            );
+        } finally {
+            threads.shutdown();
+        }
+    }
+
+    @Test
+    void keepsOnlyEndOfBigOutputInMemory() throws Exception {
+        Assumptions.assumeFalse(SystemUtils.IS_OS_WINDOWS, "");
+        try (
+            VerboseProcess process = new VerboseProcess(
+                new ProcessBuilder("seq", "1", "10000"),
+                Level.FINEST, Level.FINEST
+            );
+            VerboseProcess.Result result = process.waitFor(1024)
+        ) {
+            MatcherAssert.assertThat(
+                "should keep the end of stdout",
+                result.stdout(),
+                Matchers.allOf(
+                    Matchers.endsWith(String.format("9999%n10000%n")),
+                    Matchers.not(
+                        Matchers.containsString(String.format("%n1%n"))
+                    )
+                )
+            );
+            MatcherAssert.assertThat(
+                "should be truncated",
+                result.truncated(),
+                Matchers.is(true)
+            );
+            try (
+                BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(
+                        result.stdoutStream(), StandardCharsets.UTF_8
+                    )
+                )
+            ) {
+                MatcherAssert.assertThat(
+                    "should stream all stdout",
+                    reader.readLine(),
+                    Matchers.equalTo("1")
+                );
+            }
+        }
+    }
+
+    @Test
+    void givesLinesToListeners() throws Exception {
+        Assumptions.assumeFalse(SystemUtils.IS_OS_WINDOWS, "");
+        final Collection<String> out = new ConcurrentLinkedQueue<>();
+        final Collection<String> err = new ConcurrentLinkedQueue<>();
+        try (
+            VerboseProcess process = new VerboseProcess(
+                new ProcessBuilder(
+                    "sh", "-c", "echo one; echo two >&2; echo three"
+                ),
+                Level.OFF, Level.OFF
+            );
+            VerboseProcess.Result result = process.waitFor(out::add, err::add)
+        ) {
+            MatcherAssert.assertThat(
+                "should give stdout lines to the listener",
+                out,
+                Matchers.contains("one", "three")
+            );
+            MatcherAssert.assertThat(
+                "should give stderr lines to the listener",
+                err,
+                Matchers.contains("two")
+            );
+            MatcherAssert.assertThat(
+                "should still capture stdout",
+                result.stdout(),
+                Matchers.equalTo(String.format("one%nthree%n"))
+            );
+        }
+    }
+
     @Test
     void logsErrorWhenUnderlyingStreamIsClosed() throws Exception {
         final StringWriter writer = new StringWriter();
@@ -279,6 +400,49 @@ final class VerboseProcessTest {
         );
     }
 
+    @Test
+    void logsFailuresOfMonitors() throws Exception {
+        final StringWriter writer = new StringWriter();
+        final WriterAppender appender = new WriterAppender(
+            new SimpleLayout(), writer
+        );
+        org.apache.log4j.Logger.getRootLogger().addAppender(appender);
+        final Process prc = Mockito.mock(Process.class);
+        Mockito.doReturn(
+            new InputStream() {
+                @Override
+                public int read() {
+                    throw new IllegalStateException("monitor is broken");
+                }
+            }
+        ).when(prc).getInputStream();
+        Mockito.doReturn(new ByteArrayInputStream(new byte[0]))
+            .when(prc).getErrorStream();
+        try (
+            VerboseProcess process = new VerboseProcess(
+                prc, Level.FINEST, Level.FINEST
+            )
+        ) {
+            process.stdout();
+            final long start = System.nanoTime();
+            while (!writer.toString().contains("Escalated")
+                && System.nanoTime() - start
+                < TimeUnit.SECONDS.toNanos(5L)) {
+                TimeUnit.MILLISECONDS.sleep(10L);
+            }
+        } finally {
+            org.apache.log4j.Logger.getRootLogger().removeAppender(appender);
+        }
+        MatcherAssert.assertThat(
+            "should log the failure of the monitor",
+            writer.toString(),
+            Matchers.allOf(
+                Matchers.containsString("Escalated runtime exception"),
+                Matchers.containsString("monitor is broken")
+            )
+        );
+    }
+
     @Test
     void terminatesMonitorsAndProcessIfClosedInstantly() throws Exception {
         this.terminatesMonitorsAndProcessIfClosed(0L);